@@ -0,0 +1,30 @@
+package com.janithmi.todo_application_backend.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// Shared by WebConfig and ReactiveWebConfig so both stacks put the same bytes on the wire
+final class BinaryObjectMappers {
+
+    private BinaryObjectMappers() {
+    }
+
+    static ObjectMapper cbor() {
+        return binaryObjectMapper(Jackson2ObjectMapperBuilder.cbor());
+    }
+
+    static ObjectMapper smile() {
+        return binaryObjectMapper(Jackson2ObjectMapperBuilder.smile());
+    }
+
+    // Epoch-millis timestamps instead of ISO-8601 strings
+    private static ObjectMapper binaryObjectMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .featuresToDisable(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS,
+                        DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .build();
+    }
+}
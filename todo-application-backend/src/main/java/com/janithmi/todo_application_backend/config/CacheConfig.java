@@ -0,0 +1,47 @@
+package com.janithmi.todo_application_backend.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+@EnableScheduling
+public class CacheConfig {
+
+    public static final String LATEST_TASKS_CACHE = "latestTasks";
+
+    // Keys come from request parameters, so the cache is bounded by size; the TTL caps how long
+    // an entry can outlive an invalidation the change-log poller missed
+    @Bean
+    public GenerationalCache latestTasksCache(@Value("${todo.cache.latest-tasks.max-entries:500}") long maxEntries,
+                                              @Value("${todo.cache.latest-tasks.ttl-ms:60000}") long ttlMs) {
+        return new GenerationalCache(new CaffeineCache(LATEST_TASKS_CACHE, Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build()));
+    }
+
+    // Boot's own spring.cache.type switch; this bean replaces its auto-configured manager, so
+    // "none" is honoured here, e.g. to benchmark the servlet stack on database reads alone
+    @Bean
+    public CacheManager cacheManager(GenerationalCache latestTasksCache,
+                                     @Value("${spring.cache.type:}") String cacheType) {
+        if ("none".equalsIgnoreCase(cacheType)) {
+            return new NoOpCacheManager();
+        }
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(latestTasksCache));
+        return cacheManager;
+    }
+}
@@ -0,0 +1,86 @@
+package com.janithmi.todo_application_backend.config;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache decorator with a generation that every clear or eviction bumps. Cache keys
+ * start with the generation read before the query, so a reader that loaded a page
+ * before a concurrent commit stores it under the old generation. No later lookup
+ * uses that key, and the page is dropped on the next clear or by the size bound.
+ */
+public class GenerationalCache implements Cache {
+
+    private final Cache delegate;
+    private final AtomicLong generation = new AtomicLong();
+
+    public GenerationalCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        generation.incrementAndGet();
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        generation.incrementAndGet();
+        return delegate.evictIfPresent(key);
+    }
+
+    // The generation moves first, so a reader starting during the clear already uses the new keys
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        generation.incrementAndGet();
+        return delegate.invalidate();
+    }
+}
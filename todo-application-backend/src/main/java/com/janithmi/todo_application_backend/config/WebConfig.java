@@ -1,25 +1,54 @@
 package com.janithmi.todo_application_backend.config;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 
 @Configuration
+@Profile("!reactive")
 public class WebConfig implements WebMvcConfigurer {
 
+    static final String[] ALLOWED_ORIGINS = {
+            "http://localhost:5173",  // local dev
+            "http://localhost",        // host port 80 for frontend container
+            "http://todo-frontend",    // frontend container name inside Docker network
+            "http://todo-backend:8080" // optional if backend calls itself
+    };
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
-                .allowedOrigins(
-                        "http://localhost:5173",  // local dev
-                        "http://localhost",        // host port 80 for frontend container
-                        "http://todo-frontend",    // frontend container name inside Docker network
-                        "http://todo-backend:8080" // optional if backend calls itself
-                )
+                .allowedOrigins(ALLOWED_ORIGINS)
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
+
+    // JSON stays first in the list so it remains the default; binary formats are picked only via Accept/Content-Type
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(cborHttpMessageConverter());
+        converters.add(smileHttpMessageConverter());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(BinaryObjectMappers.cbor());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter(BinaryObjectMappers.smile());
+    }
     }
 
 
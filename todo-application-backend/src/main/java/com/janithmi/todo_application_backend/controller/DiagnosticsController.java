@@ -0,0 +1,38 @@
+package com.janithmi.todo_application_backend.controller;
+
+import com.janithmi.todo_application_backend.dto.QueryPlanResponse;
+import com.janithmi.todo_application_backend.dto.QueryStatsResponse;
+import com.janithmi.todo_application_backend.monitoring.QueryPlanExplainer;
+import com.janithmi.todo_application_backend.monitoring.QueryStatsRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/diagnostics")
+@RequiredArgsConstructor
+public class DiagnosticsController {
+
+private final QueryStatsRegistry queryStatsRegistry;
+private final QueryPlanExplainer queryPlanExplainer;
+
+    @GetMapping("/slowQueries")
+    @ResponseStatus(HttpStatus.OK)
+    public List<QueryStatsResponse> getSlowestQueries(@RequestParam(defaultValue = "10") int limit) {
+        if (limit <= 0) limit = 10;
+        return queryStatsRegistry.findSlowest(limit);
+    }
+
+    // sql is a shape exactly as returned by /slowQueries
+    @GetMapping("/explain")
+    public ResponseEntity<QueryPlanResponse> explainQuery(@RequestParam String sql) {
+        return queryPlanExplainer.explain(sql)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,28 @@
+package com.janithmi.todo_application_backend.controller;
+
+import com.janithmi.todo_application_backend.dto.TaskActivityResponse;
+import com.janithmi.todo_application_backend.service.ReactiveTaskActivityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+// Same route and cursors as TaskActivityController
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/tasks/activity")
+@RequiredArgsConstructor
+public class ReactiveTaskActivityController {
+
+private final ReactiveTaskActivityService taskActivityService;
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public Flux<TaskActivityResponse> getActivityFeed(@RequestParam(required = false) Long beforeSequence,
+                                                      @RequestParam(required = false) Long afterSequence,
+                                                      @RequestParam(defaultValue = "20") int limit) {
+        if (limit <= 0) limit = 20;
+        return taskActivityService.getActivityFeed(beforeSequence, afterSequence, limit);
+    }
+}
@@ -0,0 +1,27 @@
+package com.janithmi.todo_application_backend.controller;
+
+import com.janithmi.todo_application_backend.dto.ArchivedTaskResponse;
+import com.janithmi.todo_application_backend.service.ReactiveTaskArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+// Same route as TaskArchiveController
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/tasks/archive")
+@RequiredArgsConstructor
+public class ReactiveTaskArchiveController {
+
+private final ReactiveTaskArchiveService taskArchiveService;
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public Flux<ArchivedTaskResponse> getArchivedTasks(@RequestParam(required = false) Long beforeId,
+                                                       @RequestParam(defaultValue = "20") int limit) {
+        if (limit <= 0) limit = 20;
+        return taskArchiveService.getArchivedTasks(beforeId, limit);
+    }
+}
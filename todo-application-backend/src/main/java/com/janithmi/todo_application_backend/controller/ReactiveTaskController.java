@@ -0,0 +1,59 @@
+package com.janithmi.todo_application_backend.controller;
+
+import com.janithmi.todo_application_backend.dto.TaskRequest;
+import com.janithmi.todo_application_backend.dto.TaskResponse;
+import com.janithmi.todo_application_backend.service.ReactiveTaskService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// Same routes as TaskController; request application/x-ndjson on /recentTasks to stream rows as they arrive
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/tasks")
+@RequiredArgsConstructor
+public class ReactiveTaskController {
+
+private final ReactiveTaskService taskService;
+
+    @PostMapping("/createTask")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<TaskResponse> createTask(@RequestBody TaskRequest request) {
+        return taskService.createTask(request);
+    }
+
+    @GetMapping("/recentTasks")
+    @ResponseStatus(HttpStatus.OK)
+    public Flux<TaskResponse> getLatestTasks(@RequestParam(defaultValue = "5") int limit,
+                                             @RequestParam(required = false) String tag) {
+        if (limit <= 0) limit = 5;
+        limit = Math.min(limit, TaskController.MAX_RECENT_TASKS);
+        if (tag != null && !tag.isBlank()) {
+            return taskService.getLatestTasksActivitiesByTag(limit, tag);
+        }
+        return taskService.getLatestTasksActivities(limit);
+    }
+
+    @PutMapping("/{id}/complete")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> completeTask(@PathVariable Long id) {
+        return taskService.completeTask(id);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteTask(@PathVariable Long id) {
+        return taskService.deleteTask(id);
+    }
+
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteTasks(@RequestParam List<Long> ids) {
+        return taskService.deleteTasks(ids).then();
+    }
+}
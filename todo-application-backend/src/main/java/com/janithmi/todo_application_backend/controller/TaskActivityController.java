@@ -0,0 +1,30 @@
+package com.janithmi.todo_application_backend.controller;
+
+import com.janithmi.todo_application_backend.dto.TaskActivityResponse;
+import com.janithmi.todo_application_backend.service.TaskActivityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/tasks/activity")
+@RequiredArgsConstructor
+public class TaskActivityController {
+
+private final TaskActivityService taskActivityService;
+
+    // Pages newest-first; pass the last sequence of a page as beforeSequence to get the next one.
+    // To follow the feed, pass the last sequence seen as afterSequence and get newer rows oldest-first
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public List<TaskActivityResponse> getActivityFeed(@RequestParam(required = false) Long beforeSequence,
+                                                      @RequestParam(required = false) Long afterSequence,
+                                                      @RequestParam(defaultValue = "20") int limit) {
+        if (limit <= 0) limit = 20;
+        return taskActivityService.getActivityFeed(beforeSequence, afterSequence, limit);
+    }
+}
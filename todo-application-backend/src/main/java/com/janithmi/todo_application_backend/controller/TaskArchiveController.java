@@ -0,0 +1,28 @@
+package com.janithmi.todo_application_backend.controller;
+
+import com.janithmi.todo_application_backend.dto.ArchivedTaskResponse;
+import com.janithmi.todo_application_backend.service.TaskArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/tasks/archive")
+@RequiredArgsConstructor
+public class TaskArchiveController {
+
+private final TaskArchiveService taskArchiveService;
+
+    // Pages newest-first; pass the last id of a page as beforeId to get the next one
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public List<ArchivedTaskResponse> getArchivedTasks(@RequestParam(required = false) Long beforeId,
+                                                       @RequestParam(defaultValue = "20") int limit) {
+        if (limit <= 0) limit = 20;
+        return taskArchiveService.getArchivedTasks(beforeId, limit);
+    }
+}
@@ -4,18 +4,23 @@ import com.janithmi.todo_application_backend.dto.TaskRequest;
 import com.janithmi.todo_application_backend.dto.TaskResponse;
 import com.janithmi.todo_application_backend.service.TaskService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/tasks")
 @RequiredArgsConstructor
 public class TaskController {
 
 private final TaskService taskService;
 
+    // The limit is part of the latest-tasks cache key, so it is capped before it gets there
+    static final int MAX_RECENT_TASKS = 100;
+
     @PostMapping("/createTask")
     @ResponseStatus(HttpStatus.CREATED)
     public TaskResponse createTask(@RequestBody TaskRequest request) {
@@ -25,8 +30,13 @@ private final TaskService taskService;
 
     @GetMapping("/recentTasks")
     @ResponseStatus(HttpStatus.OK)
-    public List<TaskResponse> getLatestTasks(@RequestParam(defaultValue = "5") int limit) {
+    public List<TaskResponse> getLatestTasks(@RequestParam(defaultValue = "5") int limit,
+                                             @RequestParam(required = false) String tag) {
         if (limit <= 0) limit = 5;
+        limit = Math.min(limit, MAX_RECENT_TASKS);
+        if (tag != null && !tag.isBlank()) {
+            return taskService.getLatestTasksActivitiesByTag(limit, tag);
+        }
         List<TaskResponse> tasks = taskService.getLatestTasksActivities(limit);
         return tasks;
     }
@@ -36,4 +46,16 @@ private final TaskService taskService;
     public void completeTask(@PathVariable Long id) {
         taskService.completeTask(id);
     }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteTask(@PathVariable Long id) {
+        taskService.deleteTask(id);
+    }
+
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteTasks(@RequestParam List<Long> ids) {
+        taskService.deleteTasks(ids);
+    }
 }
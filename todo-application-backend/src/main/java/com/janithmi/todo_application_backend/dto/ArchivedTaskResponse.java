@@ -0,0 +1,23 @@
+package com.janithmi.todo_application_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArchivedTaskResponse {
+    private Long id;
+    private String title;
+    private String description;
+    private ZonedDateTime createdAt;
+    private ZonedDateTime completedAt;
+    private ZonedDateTime archivedAt;
+    private List<String> tags;
+}
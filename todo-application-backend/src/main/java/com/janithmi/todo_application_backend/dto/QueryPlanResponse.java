@@ -0,0 +1,18 @@
+package com.janithmi.todo_application_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class QueryPlanResponse {
+    private String sql;
+    private List<Map<String, Object>> plan;
+}
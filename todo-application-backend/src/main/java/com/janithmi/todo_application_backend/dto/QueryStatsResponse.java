@@ -0,0 +1,20 @@
+package com.janithmi.todo_application_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class QueryStatsResponse {
+    private String sql;
+    private long count;
+    private long meanMicros;
+    private long p50Micros;
+    private long p95Micros;
+    private long p99Micros;
+    private long maxMicros;
+}
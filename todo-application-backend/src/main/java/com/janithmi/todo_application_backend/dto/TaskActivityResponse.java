@@ -0,0 +1,21 @@
+package com.janithmi.todo_application_backend.dto;
+
+import com.janithmi.todo_application_backend.model.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskActivityResponse {
+    private Long sequence;
+    private Long taskId;
+    private ChangeType type;
+    private String title;
+    private ZonedDateTime occurredAt;
+}
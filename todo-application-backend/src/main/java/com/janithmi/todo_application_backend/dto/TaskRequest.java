@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
 
 @Data
 @Builder
@@ -13,4 +14,9 @@ import lombok.NoArgsConstructor;
 public class TaskRequest {
     private String title;
     private String description;
+    private List<String> tags;
+
+    public TaskRequest(String title, String description) {
+        this(title, description, null);
+    }
 }
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -18,6 +19,7 @@ public class TaskResponse {
     private String description;
     private boolean completed;
     private ZonedDateTime createdAt;
+    private List<String> tags;
 
 
 
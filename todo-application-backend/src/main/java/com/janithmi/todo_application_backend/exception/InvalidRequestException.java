@@ -0,0 +1,8 @@
+package com.janithmi.todo_application_backend.exception;
+
+// Client input the API rejects with 400 before it reaches the database
+public class InvalidRequestException extends RuntimeException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -1,8 +1,12 @@
 package com.janithmi.todo_application_backend.mapper;
 
+import com.janithmi.todo_application_backend.dto.ArchivedTaskResponse;
+import com.janithmi.todo_application_backend.dto.TaskActivityResponse;
 import com.janithmi.todo_application_backend.dto.TaskRequest;
 import com.janithmi.todo_application_backend.dto.TaskResponse;
 import com.janithmi.todo_application_backend.model.Task;
+import com.janithmi.todo_application_backend.model.TaskActivity;
+import com.janithmi.todo_application_backend.model.TaskArchive;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -23,4 +27,23 @@ public class TaskMapper {
                 .createdAt(task.getCreatedAt())
                 .build();
     }
+    public ArchivedTaskResponse mapToArchivedTaskResponse(TaskArchive archivedTask) {
+        return ArchivedTaskResponse.builder()
+                .id(archivedTask.getId())
+                .title(archivedTask.getTitle())
+                .description(archivedTask.getDescription())
+                .createdAt(archivedTask.getCreatedAt())
+                .completedAt(archivedTask.getCompletedAt())
+                .archivedAt(archivedTask.getArchivedAt())
+                .build();
+    }
+    public TaskActivityResponse mapToTaskActivityResponse(TaskActivity activity) {
+        return TaskActivityResponse.builder()
+                .sequence(activity.getId())
+                .taskId(activity.getTaskId())
+                .type(activity.getActivityType())
+                .title(activity.getTaskTitle())
+                .occurredAt(activity.getOccurredAt())
+                .build();
+    }
 }
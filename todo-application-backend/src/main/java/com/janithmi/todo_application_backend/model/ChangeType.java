@@ -0,0 +1,7 @@
+package com.janithmi.todo_application_backend.model;
+
+public enum ChangeType {
+    CREATED,
+    COMPLETED,
+    DELETED
+}
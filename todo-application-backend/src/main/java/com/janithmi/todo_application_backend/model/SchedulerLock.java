@@ -0,0 +1,30 @@
+package com.janithmi.todo_application_backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.ZonedDateTime;
+
+/**
+ * One row per background job. A node may run the job while it holds an
+ * unexpired lease, so jobs scheduled on every node still run on one at a time.
+ */
+@Entity
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "scheduler_lock")
+public class SchedulerLock {
+
+        @Id
+        @Column(name = "name", length = 64)
+        private String name;
+        @Column(name = "locked_until", nullable = false)
+        private ZonedDateTime lockedUntil;
+        @Column(name = "locked_by", nullable = false)
+        private String lockedBy;
+
+    }
@@ -0,0 +1,55 @@
+package com.janithmi.todo_application_backend.model;
+
+import com.janithmi.todo_application_backend.exception.InvalidRequestException;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Entity
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "tag")
+public class Tag {
+
+        public static final int MAX_NAME_LENGTH = 64;
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        @Column(nullable = false, unique = true, length = MAX_NAME_LENGTH)
+        private String name;
+
+        // Tags are matched case-insensitively by storing one canonical spelling
+        public static String normalizeName(String name) {
+            return name.trim().toLowerCase(Locale.ROOT);
+        }
+
+        // Distinct canonical names of a request; names the column cannot hold are a 400, not a failed insert
+        public static Set<String> normalizeNames(List<String> names) {
+            if (names == null) {
+                return new LinkedHashSet<>();
+            }
+            Set<String> normalized = names.stream()
+                    .filter(Objects::nonNull)
+                    .map(Tag::normalizeName)
+                    .filter(name -> !name.isEmpty())
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            for (String name : normalized) {
+                if (name.length() > MAX_NAME_LENGTH) {
+                    throw new InvalidRequestException("Tag names must be at most " + MAX_NAME_LENGTH + " characters");
+                }
+            }
+            return normalized;
+        }
+
+    }
@@ -14,7 +14,13 @@ import java.time.ZonedDateTime;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "task")
+@Table(name = "task",
+        indexes = {
+                // deleted_at is null is an equality lookup, so the feed can still read created_at in index order
+                @Index(name = "idx_task_active_feed", columnList = "is_completed, deleted_at, created_at"),
+                @Index(name = "idx_task_completed_completed_at", columnList = "is_completed, completed_at"),
+                @Index(name = "idx_task_deleted_at", columnList = "deleted_at")
+        })
 public class Task {
 
         @Id
@@ -29,6 +35,11 @@ public class Task {
         @CreationTimestamp
         @Column(name = "created_at", nullable = false)
         private ZonedDateTime createdAt;
+        @Column(name = "completed_at")
+        private ZonedDateTime completedAt;
+        // Tombstone set by user-facing deletes; rows are physically removed later by TaskPurger
+        @Column(name = "deleted_at")
+        private ZonedDateTime deletedAt;
 
     }
 
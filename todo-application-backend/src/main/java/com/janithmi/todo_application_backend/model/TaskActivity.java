@@ -0,0 +1,39 @@
+package com.janithmi.todo_application_backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Append-only history of task events. Rows are never updated; the identity
+ * column is the feed's sequence, so paging is a seek on the primary key.
+ * The title is copied at write time so entries outlive archival and purges.
+ */
+@Entity
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "task_activity",
+        indexes = @Index(name = "idx_task_activity_occurred_at", columnList = "occurred_at"))
+public class TaskActivity {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        @Column(name = "task_id", nullable = false)
+        private Long taskId;
+        @Enumerated(EnumType.STRING)
+        @Column(name = "activity_type", nullable = false, length = 16)
+        private ChangeType activityType;
+        @Column(name = "task_title")
+        private String taskTitle;
+        @CreationTimestamp
+        @Column(name = "occurred_at", nullable = false)
+        private ZonedDateTime occurredAt;
+
+    }
@@ -0,0 +1,43 @@
+package com.janithmi.todo_application_backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Cold copy of a completed task. The id is the original task id so rows are
+ * moved by insert-select rather than re-keyed.
+ */
+@Entity
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "task_archive")
+public class TaskArchive {
+
+        @Id
+        private Long id;
+        @Column(nullable = false)
+        private String title;
+        @Column(columnDefinition = "TEXT")
+        private String description;
+        @Column(name = "created_at", nullable = false)
+        private ZonedDateTime createdAt;
+        @Column(name = "completed_at")
+        private ZonedDateTime completedAt;
+        @Column(name = "archived_at", nullable = false)
+        private ZonedDateTime archivedAt;
+        @Builder.Default
+        @ManyToMany
+        @JoinTable(name = "task_archive_tag",
+                joinColumns = @JoinColumn(name = "task_id"),
+                inverseJoinColumns = @JoinColumn(name = "tag_id"))
+        private Set<Tag> tags = new HashSet<>();
+
+    }
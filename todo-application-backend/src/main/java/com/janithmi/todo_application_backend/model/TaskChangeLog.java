@@ -0,0 +1,36 @@
+package com.janithmi.todo_application_backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.ZonedDateTime;
+
+/**
+ * One row per task mutation. The identity column doubles as the monotonic
+ * sequence every node tails to invalidate its local caches.
+ */
+@Entity
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "task_change_log",
+        indexes = @Index(name = "idx_task_change_log_changed_at", columnList = "changed_at"))
+public class TaskChangeLog {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        @Column(name = "task_id", nullable = false)
+        private Long taskId;
+        @Enumerated(EnumType.STRING)
+        @Column(name = "change_type", nullable = false, length = 16)
+        private ChangeType changeType;
+        @CreationTimestamp
+        @Column(name = "changed_at", nullable = false)
+        private ZonedDateTime changedAt;
+
+    }
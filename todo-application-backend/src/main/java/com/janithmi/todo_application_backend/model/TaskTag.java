@@ -0,0 +1,59 @@
+package com.janithmi.todo_application_backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+
+/**
+ * Link between a task and a tag. is_completed, deleted_at and created_at are copies of the
+ * task's columns, so a tag feed filters and orders inside idx_task_tag_feed and only joins
+ * the task rows of the page it returns. Every write that changes those task columns also
+ * updates the copies in the same transaction.
+ */
+@Entity
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@IdClass(TaskTag.Key.class)
+@Table(name = "task_tag",
+        indexes = {
+                @Index(name = "idx_task_tag_feed", columnList = "tag_id, is_completed, deleted_at, created_at"),
+                @Index(name = "idx_task_tag_task_id", columnList = "task_id")
+        })
+public class TaskTag {
+
+        @Id
+        @Column(name = "task_id")
+        private Long taskId;
+        @Id
+        @Column(name = "tag_id")
+        private Long tagId;
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "task_id", insertable = false, updatable = false)
+        private Task task;
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "tag_id", insertable = false, updatable = false)
+        private Tag tag;
+        @Column(name = "is_completed", nullable = false)
+        private boolean isCompleted;
+        @Column(name = "deleted_at")
+        private ZonedDateTime deletedAt;
+        @Column(name = "created_at", nullable = false)
+        private ZonedDateTime createdAt;
+
+        @Getter
+        @Setter
+        @NoArgsConstructor
+        @AllArgsConstructor
+        @EqualsAndHashCode
+        public static class Key implements Serializable {
+            private Long taskId;
+            private Long tagId;
+        }
+
+    }
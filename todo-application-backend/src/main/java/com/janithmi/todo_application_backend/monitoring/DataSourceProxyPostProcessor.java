@@ -0,0 +1,36 @@
+package com.janithmi.todo_application_backend.monitoring;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the pooled DataSource so every statement is timed by {@link QueryStatsListener}.
+ */
+@Component
+@Profile("!reactive")
+public class DataSourceProxyPostProcessor implements BeanPostProcessor {
+
+    // Resolved lazily so the listener itself is still post-processed normally
+    private final ObjectProvider<QueryStatsListener> queryStatsListener;
+
+    public DataSourceProxyPostProcessor(ObjectProvider<QueryStatsListener> queryStatsListener) {
+        this.queryStatsListener = queryStatsListener;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(queryStatsListener.getObject())
+                    .build();
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,47 @@
+package com.janithmi.todo_application_backend.monitoring;
+
+import com.janithmi.todo_application_backend.dto.QueryPlanResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Runs EXPLAIN for a recorded statement shape using the bind values of its first execution,
+ * e.g. to check whether the recentTasks feed is served from an index or needs a filesort.
+ */
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class QueryPlanExplainer {
+
+    private final QueryStatsRegistry queryStatsRegistry;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Only shapes the application actually ran, and only reads, so the endpoint cannot modify data
+    public Optional<QueryPlanResponse> explain(String shape) {
+        return queryStatsRegistry.findSample(shape)
+                .filter(sample -> isSelect(sample.getSql()))
+                .map(sample -> QueryPlanResponse.builder()
+                        .sql(shape)
+                        .plan(planOf(sample))
+                        .build());
+    }
+
+    private List<Map<String, Object>> planOf(QuerySample sample) {
+        List<Map<String, Object>> plan = sample.getPlan();
+        if (plan == null) {
+            plan = jdbcTemplate.queryForList("EXPLAIN " + sample.getSql(), sample.getParameters().toArray());
+            sample.setPlan(plan);
+        }
+        return plan;
+    }
+
+    private static boolean isSelect(String sql) {
+        return sql.stripLeading().regionMatches(true, 0, "select", 0, "select".length());
+    }
+}
@@ -0,0 +1,24 @@
+package com.janithmi.todo_application_backend.monitoring;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * First recorded execution of a statement shape, kept so the shape's plan can be explained
+ * with real bind values instead of guessing them.
+ */
+@Getter
+@RequiredArgsConstructor
+public class QuerySample {
+
+    private final String sql;
+    private final List<Object> parameters;
+
+    // Filled on the first EXPLAIN so each shape reaches the database at most once
+    @Setter
+    private volatile List<Map<String, Object>> plan;
+}
@@ -0,0 +1,100 @@
+package com.janithmi.todo_application_backend.monitoring;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every statement that goes through the proxied DataSource, feeds the
+ * histograms and hands sampled slow statements to a background logger so the
+ * request thread never blocks on log output.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class QueryStatsListener implements QueryExecutionListener {
+
+    private final QueryStatsRegistry registry;
+    private final long slowThresholdMicros;
+    private final double slowLogSampleRate;
+    private final ThreadPoolExecutor slowLogExecutor;
+
+    // before/after callbacks for one statement always run on the executing thread
+    private final ThreadLocal<Long> startNanos = new ThreadLocal<>();
+
+    public QueryStatsListener(QueryStatsRegistry registry,
+                              @Value("${todo.sql-stats.slow-threshold-ms:200}") long slowThresholdMs,
+                              @Value("${todo.sql-stats.slow-log-sample-rate:1.0}") double slowLogSampleRate,
+                              @Value("${todo.sql-stats.slow-log-queue-size:1000}") int slowLogQueueSize) {
+        this.registry = registry;
+        this.slowThresholdMicros = TimeUnit.MILLISECONDS.toMicros(slowThresholdMs);
+        this.slowLogSampleRate = slowLogSampleRate;
+        // Full queue drops the log line rather than slowing down the statement
+        this.slowLogExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(slowLogQueueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-log");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        startNanos.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = startNanos.get();
+        startNanos.remove();
+        long elapsedMicros = start != null
+                ? TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start)
+                : TimeUnit.MILLISECONDS.toMicros(execInfo.getElapsedTime());
+
+        for (QueryInfo queryInfo : queryInfoList) {
+            registry.record(queryInfo.getQuery(), () -> firstParameterSet(queryInfo), elapsedMicros);
+        }
+
+        if (elapsedMicros >= slowThresholdMicros
+                && ThreadLocalRandom.current().nextDouble() < slowLogSampleRate) {
+            List<String> statements = queryInfoList.stream().map(QueryInfo::getQuery).toList();
+            boolean success = execInfo.isSuccess();
+            slowLogExecutor.execute(() -> log.warn("Slow SQL ({} ms, success={}): {}",
+                    TimeUnit.MICROSECONDS.toMillis(elapsedMicros), success,
+                    statements.stream().map(SqlNormalizer::normalize).toList()));
+        }
+    }
+
+    // Bind values of the first batch entry in placeholder order; setNull carries a type code, not a value
+    static List<Object> firstParameterSet(QueryInfo queryInfo) {
+        if (queryInfo.getParametersList().isEmpty()) {
+            return List.of();
+        }
+        return queryInfo.getParametersList().get(0).stream()
+                .filter(operation -> operation.getArgs().length > 1 && operation.getArgs()[0] instanceof Integer)
+                .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                .map(operation -> ParameterSetOperation.isSetNullParameterOperation(operation)
+                        ? null : operation.getArgs()[1])
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        slowLogExecutor.shutdown();
+    }
+}
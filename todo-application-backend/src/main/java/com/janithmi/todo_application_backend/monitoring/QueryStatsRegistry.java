@@ -0,0 +1,96 @@
+package com.janithmi.todo_application_backend.monitoring;
+
+import com.janithmi.todo_application_backend.dto.QueryStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Latency histograms keyed by normalized statement shape, each with the first
+ * execution of that shape as an EXPLAIN sample.
+ */
+@Component
+@Profile("!reactive")
+public class QueryStatsRegistry {
+
+    // Shapes beyond the cap share one histogram so unbounded ad-hoc SQL cannot grow the map
+    static final String OVERFLOW_SHAPE = "<other statements>";
+
+    @Value("${todo.sql-stats.max-shapes:500}")
+    private int maxShapes = 500;
+
+    private final Map<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+    private final LongAdder statementCount = new LongAdder();
+
+    public void record(String sql, long micros) {
+        record(sql, List::of, micros);
+    }
+
+    // Parameters are only materialized the first time a shape is seen
+    public void record(String sql, Supplier<List<Object>> parameters, long micros) {
+        String shape = SqlNormalizer.normalize(sql);
+        ShapeStats stats = shapes.get(shape);
+        if (stats == null) {
+            String key = shapes.size() < maxShapes ? shape : OVERFLOW_SHAPE;
+            stats = shapes.computeIfAbsent(key, k -> new ShapeStats(new QuerySample(sql, parameters.get())));
+        }
+        stats.histogram.record(micros);
+        statementCount.increment();
+    }
+
+    public long getStatementCount() {
+        return statementCount.sum();
+    }
+
+    public List<QueryStatsResponse> findSlowest(int limit) {
+        return shapes.entrySet().stream()
+                .map(entry -> toResponse(entry.getKey(), entry.getValue().histogram))
+                .sorted(Comparator.comparingLong(QueryStatsResponse::getP99Micros)
+                        .thenComparingLong(QueryStatsResponse::getMaxMicros)
+                        .reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    // The overflow bucket mixes unrelated statements, so it has no meaningful sample
+    public Optional<QuerySample> findSample(String shape) {
+        if (OVERFLOW_SHAPE.equals(shape)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(shapes.get(shape)).map(stats -> stats.sample);
+    }
+
+    public void reset() {
+        shapes.clear();
+        statementCount.reset();
+    }
+
+    private QueryStatsResponse toResponse(String sql, LatencyHistogram histogram) {
+        return QueryStatsResponse.builder()
+                .sql(sql)
+                .count(histogram.getCount())
+                .meanMicros(histogram.getMeanMicros())
+                .p50Micros(histogram.percentileMicros(0.50))
+                .p95Micros(histogram.percentileMicros(0.95))
+                .p99Micros(histogram.percentileMicros(0.99))
+                .maxMicros(histogram.getMaxMicros())
+                .build();
+    }
+
+    private static final class ShapeStats {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final QuerySample sample;
+
+        private ShapeStats(QuerySample sample) {
+            this.sample = sample;
+        }
+    }
+}
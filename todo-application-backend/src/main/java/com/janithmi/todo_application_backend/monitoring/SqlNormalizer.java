@@ -0,0 +1,47 @@
+package com.janithmi.todo_application_backend.monitoring;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces a SQL statement to its shape so executions that differ only in
+ * literal values or IN-list length share one histogram.
+ */
+public final class SqlNormalizer {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Prepared statements repeat the same raw SQL, so most calls skip the regex passes.
+    // Once full, new strings are normalized without being cached, so literal-heavy SQL cannot grow it
+    static final int MAX_CACHED_STATEMENTS = 2_000;
+    private static final Map<String, String> SHAPES = new ConcurrentHashMap<>();
+
+    private SqlNormalizer() {
+    }
+
+    public static String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String shape = SHAPES.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+        shape = computeShape(sql);
+        if (SHAPES.size() < MAX_CACHED_STATEMENTS) {
+            SHAPES.putIfAbsent(sql, shape);
+        }
+        return shape;
+    }
+
+    private static String computeShape(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMERIC_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,35 @@
+package com.janithmi.todo_application_backend.repository;
+
+import com.janithmi.todo_application_backend.model.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+    // Conditional update: the row lock makes exactly one of several racing nodes match
+    @Transactional
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :lockedUntil, l.lockedBy = :owner"
+            + " where l.name = :name and l.lockedUntil <= :now")
+    int acquireExpired(@Param("name") String name, @Param("owner") String owner,
+                       @Param("now") ZonedDateTime now, @Param("lockedUntil") ZonedDateTime lockedUntil);
+
+    // Plain insert rather than save(): merge() would overwrite a row another node just created
+    @Transactional
+    @Modifying
+    @Query(value = "insert into scheduler_lock (name, locked_until, locked_by) values (:name, :lockedUntil, :owner)",
+            nativeQuery = true)
+    int insertLock(@Param("name") String name, @Param("owner") String owner,
+                   @Param("lockedUntil") ZonedDateTime lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :now where l.name = :name and l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") ZonedDateTime now);
+}
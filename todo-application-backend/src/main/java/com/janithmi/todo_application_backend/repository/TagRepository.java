@@ -0,0 +1,23 @@
+package com.janithmi.todo_application_backend.repository;
+
+import com.janithmi.todo_application_backend.model.Tag;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TagRepository extends JpaRepository<Tag, Long> {
+    List<Tag> findByNameIn(Collection<String> names);
+
+    // A locking read returns the latest committed row even under a REPEATABLE READ snapshot
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT g FROM Tag g WHERE g.name = :name")
+    Optional<Tag> findCommittedByName(@Param("name") String name);
+}
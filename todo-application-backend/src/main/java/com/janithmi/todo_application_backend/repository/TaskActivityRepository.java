@@ -0,0 +1,31 @@
+package com.janithmi.todo_application_backend.repository;
+
+import com.janithmi.todo_application_backend.model.TaskActivity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskActivityRepository extends JpaRepository<TaskActivity, Long> {
+    // Backward range scan on the primary key from the cursor; no sort or offset
+    @Query("select a from TaskActivity a where a.id < :beforeId order by a.id desc")
+    List<TaskActivity> findActivitiesBefore(@Param("beforeId") Long beforeId, Pageable pageable);
+
+    // Forward range scan for readers following the feed
+    @Query("select a from TaskActivity a where a.id > :afterId order by a.id asc")
+    List<TaskActivity> findActivitiesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select a.id from TaskActivity a where a.occurredAt < :cutoff order by a.id asc")
+    List<Long> findCompactableIds(@Param("cutoff") ZonedDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("delete from TaskActivity a where a.id between :fromId and :toId and a.occurredAt < :cutoff")
+    int deleteCompactableActivities(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                    @Param("cutoff") ZonedDateTime cutoff);
+}
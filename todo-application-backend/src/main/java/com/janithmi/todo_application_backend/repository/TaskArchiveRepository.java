@@ -0,0 +1,52 @@
+package com.janithmi.todo_application_backend.repository;
+
+import com.janithmi.todo_application_backend.model.TaskArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskArchiveRepository extends JpaRepository<TaskArchive, Long> {
+    @Query("select a from TaskArchive a where a.id < :beforeId order by a.id desc")
+    List<TaskArchive> findArchivedBefore(@Param("beforeId") Long beforeId, Pageable pageable);
+
+    @Query("select a.id as taskId, g.name as tagName from TaskArchive a join a.tags g where a.id in :taskIds order by g.name")
+    List<TaskTagName> findTagNamesByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    // The statements below move one id range; they run in a single short transaction per batch
+
+    @Modifying
+    @Query(value = "insert into task_archive (id, title, description, created_at, completed_at, archived_at)"
+            + " select t.id, t.title, t.description, t.created_at, t.completed_at, :archivedAt from task t"
+            + " where t.id between :fromId and :toId and t.is_completed = true and t.deleted_at is null"
+            + " and (t.completed_at < :cutoff or (t.completed_at is null and t.created_at < :cutoff))",
+            nativeQuery = true)
+    int copyTasks(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                  @Param("cutoff") ZonedDateTime cutoff, @Param("archivedAt") ZonedDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "insert into task_archive_tag (task_id, tag_id)"
+            + " select tt.task_id, tt.tag_id from task_tag tt join task_archive a on a.id = tt.task_id"
+            + " where tt.task_id between :fromId and :toId",
+            nativeQuery = true)
+    int copyTaskTags(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query(value = "delete from task_tag where task_id between :fromId and :toId"
+            + " and task_id in (select a.id from task_archive a where a.id between :fromId and :toId)",
+            nativeQuery = true)
+    int deleteArchivedTaskTags(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query(value = "delete from task where id between :fromId and :toId"
+            + " and id in (select a.id from task_archive a where a.id between :fromId and :toId)",
+            nativeQuery = true)
+    int deleteArchivedTasks(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
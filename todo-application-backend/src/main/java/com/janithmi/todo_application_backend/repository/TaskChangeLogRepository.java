@@ -0,0 +1,33 @@
+package com.janithmi.todo_application_backend.repository;
+
+import com.janithmi.todo_application_backend.model.TaskChangeLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskChangeLogRepository extends JpaRepository<TaskChangeLog, Long> {
+    @Query("select max(c.id) from TaskChangeLog c")
+    Optional<Long> findMaxId();
+
+    // Primary key range scan, the cheap poll each node runs against the shared log
+    @Query("select c from TaskChangeLog c where c.id > :afterId order by c.id asc")
+    List<TaskChangeLog> findEntriesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select c.id from TaskChangeLog c where c.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query("delete from TaskChangeLog c where c.changedAt < :cutoff")
+    int deleteEntriesChangedBefore(@Param("cutoff") ZonedDateTime cutoff);
+}
@@ -1,15 +1,78 @@
 package com.janithmi.todo_application_backend.repository;
 
 import com.janithmi.todo_application_backend.model.Task;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
-    @Query("select t from Task t where t.isCompleted = false order by t.createdAt desc")
+    @Query("select t from Task t where t.isCompleted = false and t.deletedAt is null order by t.createdAt desc")
     List<Task> findLatestActiveTasks(Pageable pageable);
+
+    // Filters and orders on the task_tag copies, so only the page's task rows are read
+    @Query("select t from TaskTag tt join tt.task t join tt.tag g where g.name = :tag"
+            + " and tt.isCompleted = false and tt.deletedAt is null order by tt.createdAt desc")
+    List<Task> findLatestActiveTasksByTag(@Param("tag") String tag, Pageable pageable);
+
+    // Loads the tags of a whole page in one statement instead of one lazy load per task
+    @Query("select tt.taskId as taskId, g.name as tagName from TaskTag tt join tt.tag g"
+            + " where tt.taskId in :taskIds order by g.name")
+    List<TaskTagName> findTagNamesByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    // The task_tag statements below keep its copies of the task columns in step with the task row
+
+    @Modifying
+    @Query(value = "insert into task_tag (task_id, tag_id, is_completed, deleted_at, created_at)"
+            + " select t.id, g.id, t.is_completed, t.deleted_at, t.created_at from task t, tag g"
+            + " where t.id = :taskId and g.id in :tagIds",
+            nativeQuery = true)
+    int insertTaskTags(@Param("taskId") Long taskId, @Param("tagIds") Collection<Long> tagIds);
+
+    @Modifying
+    @Query("update TaskTag tt set tt.isCompleted = true where tt.taskId = :taskId")
+    int completeTaskTags(@Param("taskId") Long taskId);
+
+    // Tasks completed before completed_at existed fall back to their creation time
+    @Query("select t.id from Task t where t.isCompleted = true and t.deletedAt is null"
+            + " and (t.completedAt < :cutoff or (t.completedAt is null and t.createdAt < :cutoff))"
+            + " order by t.id asc")
+    List<Long> findArchivableTaskIds(@Param("cutoff") ZonedDateTime cutoff, Pageable pageable);
+
+    // Locks the live rows so a concurrent delete of the same ids waits and then finds them gone
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id in :ids and t.deletedAt is null")
+    List<Task> findLiveTasksForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Task t set t.deletedAt = :deletedAt where t.id in :ids and t.deletedAt is null")
+    int softDeleteByIds(@Param("ids") Collection<Long> ids, @Param("deletedAt") ZonedDateTime deletedAt);
+
+    @Modifying
+    @Query("update TaskTag tt set tt.deletedAt = :deletedAt where tt.taskId in :ids and tt.deletedAt is null")
+    int softDeleteTaskTags(@Param("ids") Collection<Long> ids, @Param("deletedAt") ZonedDateTime deletedAt);
+
+    @Query("select t.id from Task t where t.deletedAt < :cutoff order by t.id asc")
+    List<Long> findPurgeableTaskIds(@Param("cutoff") ZonedDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query(value = "delete from task_tag where task_id between :fromId and :toId"
+            + " and task_id in (select t.id from task t where t.id between :fromId and :toId and t.deleted_at < :cutoff)",
+            nativeQuery = true)
+    int deletePurgeableTaskTags(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                @Param("cutoff") ZonedDateTime cutoff);
+
+    @Modifying
+    @Query(value = "delete from task where id between :fromId and :toId and deleted_at < :cutoff", nativeQuery = true)
+    int deletePurgeableTasks(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                             @Param("cutoff") ZonedDateTime cutoff);
 }
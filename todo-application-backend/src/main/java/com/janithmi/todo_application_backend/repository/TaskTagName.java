@@ -0,0 +1,6 @@
+package com.janithmi.todo_application_backend.repository;
+
+public interface TaskTagName {
+    Long getTaskId();
+    String getTagName();
+}
@@ -0,0 +1,10 @@
+package com.janithmi.todo_application_backend.repository;
+
+import com.janithmi.todo_application_backend.model.TaskTag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+// The copies of the task columns are written by TaskRepository alongside the task row itself
+@Repository
+public interface TaskTagRepository extends JpaRepository<TaskTag, TaskTag.Key> {
+}
@@ -0,0 +1,75 @@
+package com.janithmi.todo_application_backend.scheduler;
+
+import com.janithmi.todo_application_backend.service.ReactiveSchedulerLockService;
+import com.janithmi.todo_application_backend.service.ReactiveTaskActivityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskActivityCompactor} for the "reactive" profile, sharing its lease and properties.
+ */
+@Slf4j
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTaskActivityCompactor {
+
+    private final ReactiveTaskActivityService taskActivityService;
+    private final ReactiveSchedulerLockService schedulerLockService;
+
+    @Value("${todo.activity.retention-days:90}")
+    private long retentionDays = 90;
+
+    @Value("${todo.activity.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${todo.activity.batch-pause-ms:200}")
+    private long batchPauseMs = 200;
+
+    @Value("${todo.activity.max-batches-per-run:100}")
+    private int maxBatchesPerRun = 100;
+
+    @Value("${todo.activity.lease-ms:1800000}")
+    private long leaseMs = 1_800_000;
+
+    @Scheduled(fixedDelayString = "${todo.activity.interval-ms:3600000}",
+            initialDelayString = "${todo.activity.initial-delay-ms:60000}")
+    public Mono<Void> compactActivity() {
+        return schedulerLockService.tryAcquire(TaskActivityCompactor.LOCK_NAME, Duration.ofMillis(leaseMs))
+                .filter(Boolean::booleanValue)
+                .flatMap(acquired -> Mono.usingWhen(Mono.just(TaskActivityCompactor.LOCK_NAME),
+                        name -> compactBatches(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(leaseMs)),
+                        schedulerLockService::release));
+    }
+
+    private Mono<Void> compactBatches(long leaseDeadline) {
+        OffsetDateTime cutoff = OffsetDateTime.now().minusDays(retentionDays);
+        return compactFrom(cutoff, 0, leaseDeadline)
+                .doOnNext(total -> {
+                    if (total > 0) {
+                        log.info("Compacted {} task activity entries older than {}", total, cutoff);
+                    }
+                })
+                .then();
+    }
+
+    private Mono<Integer> compactFrom(OffsetDateTime cutoff, int batch, long leaseDeadline) {
+        return taskActivityService.compactBatch(cutoff, batchSize)
+                .flatMap(compacted -> compacted < batchSize || batch + 1 >= maxBatchesPerRun
+                        ? Mono.just(compacted)
+                        : Mono.delay(Duration.ofMillis(batchPauseMs))
+                                .then(Mono.defer(() -> System.nanoTime() - leaseDeadline < 0
+                                        ? compactFrom(cutoff, batch + 1, leaseDeadline)
+                                        : Mono.just(0)))
+                                .map(rest -> compacted + rest));
+    }
+}
@@ -0,0 +1,76 @@
+package com.janithmi.todo_application_backend.scheduler;
+
+import com.janithmi.todo_application_backend.service.ReactiveSchedulerLockService;
+import com.janithmi.todo_application_backend.service.ReactiveTaskArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskArchiver} for the "reactive" profile. Shares the archive lease and
+ * properties with TaskArchiver, so mixed deployments still archive on one node at a time.
+ */
+@Slf4j
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTaskArchiver {
+
+    private final ReactiveTaskArchiveService taskArchiveService;
+    private final ReactiveSchedulerLockService schedulerLockService;
+
+    @Value("${todo.archive.retention-days:30}")
+    private long retentionDays = 30;
+
+    @Value("${todo.archive.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${todo.archive.batch-pause-ms:200}")
+    private long batchPauseMs = 200;
+
+    @Value("${todo.archive.max-batches-per-run:100}")
+    private int maxBatchesPerRun = 100;
+
+    @Value("${todo.archive.lease-ms:1800000}")
+    private long leaseMs = 1_800_000;
+
+    @Scheduled(fixedDelayString = "${todo.archive.interval-ms:3600000}",
+            initialDelayString = "${todo.archive.initial-delay-ms:60000}")
+    public Mono<Void> archiveCompletedTasks() {
+        return schedulerLockService.tryAcquire(TaskArchiver.LOCK_NAME, Duration.ofMillis(leaseMs))
+                .filter(Boolean::booleanValue)
+                .flatMap(acquired -> Mono.usingWhen(Mono.just(TaskArchiver.LOCK_NAME),
+                        name -> archiveBatches(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(leaseMs)),
+                        schedulerLockService::release));
+    }
+
+    private Mono<Void> archiveBatches(long leaseDeadline) {
+        OffsetDateTime cutoff = OffsetDateTime.now().minusDays(retentionDays);
+        return archiveFrom(cutoff, 0, leaseDeadline)
+                .doOnNext(total -> {
+                    if (total > 0) {
+                        log.info("Archived {} tasks completed before {}", total, cutoff);
+                    }
+                })
+                .then();
+    }
+
+    private Mono<Integer> archiveFrom(OffsetDateTime cutoff, int batch, long leaseDeadline) {
+        return taskArchiveService.archiveBatch(cutoff, batchSize)
+                .flatMap(archived -> archived < batchSize || batch + 1 >= maxBatchesPerRun
+                        ? Mono.just(archived)
+                        : Mono.delay(Duration.ofMillis(batchPauseMs))
+                                .then(Mono.defer(() -> System.nanoTime() - leaseDeadline < 0
+                                        ? archiveFrom(cutoff, batch + 1, leaseDeadline)
+                                        : Mono.just(0)))
+                                .map(rest -> archived + rest));
+    }
+}
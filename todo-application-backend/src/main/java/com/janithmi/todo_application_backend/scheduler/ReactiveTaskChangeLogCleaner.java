@@ -0,0 +1,43 @@
+package com.janithmi.todo_application_backend.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+
+/**
+ * The task_change_log garbage collection of {@link TaskChangeLogPoller} for the "reactive"
+ * profile. Reactive nodes keep no latest-tasks cache, so they never poll the log, but they
+ * append to it and must trim it when no servlet node is running.
+ */
+@Slf4j
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTaskChangeLogCleaner {
+
+    private final DatabaseClient databaseClient;
+
+    @Value("${todo.change-log.retention-minutes:60}")
+    private long retentionMinutes = 60;
+
+    @Scheduled(fixedDelayString = "${todo.change-log.gc-interval-ms:300000}")
+    public Mono<Void> purgeExpiredEntries() {
+        return databaseClient.sql("delete from task_change_log where changed_at < :cutoff")
+                .bind("cutoff", OffsetDateTime.now().minusMinutes(retentionMinutes))
+                .fetch()
+                .rowsUpdated()
+                .doOnNext(removed -> {
+                    if (removed > 0) {
+                        log.debug("Removed {} task change log entries older than {} minutes", removed, retentionMinutes);
+                    }
+                })
+                .then();
+    }
+}
@@ -0,0 +1,91 @@
+package com.janithmi.todo_application_backend.scheduler;
+
+import com.janithmi.todo_application_backend.service.ReactiveSchedulerLockService;
+import com.janithmi.todo_application_backend.service.ReactiveTaskPurgeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskPurger} for the "reactive" profile, so a deployment without servlet nodes
+ * still removes its tombstones. Shares the purge lease and properties with TaskPurger.
+ */
+@Slf4j
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTaskPurger {
+
+    private final ReactiveTaskPurgeService taskPurgeService;
+    private final ReactiveSchedulerLockService schedulerLockService;
+
+    @Value("${todo.purge.window-start:01:00}")
+    private String windowStart = "01:00";
+
+    @Value("${todo.purge.window-end:05:00}")
+    private String windowEnd = "05:00";
+
+    @Value("${todo.purge.grace-minutes:60}")
+    private long graceMinutes = 60;
+
+    @Value("${todo.purge.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${todo.purge.batch-pause-ms:200}")
+    private long batchPauseMs = 200;
+
+    @Value("${todo.purge.max-batches-per-run:100}")
+    private int maxBatchesPerRun = 100;
+
+    @Value("${todo.purge.lease-ms:1800000}")
+    private long leaseMs = 1_800_000;
+
+    // The scheduler subscribes and waits for completion before the next fixed delay starts
+    @Scheduled(fixedDelayString = "${todo.purge.interval-ms:600000}",
+            initialDelayString = "${todo.purge.initial-delay-ms:60000}")
+    public Mono<Void> purgeDeletedTasks() {
+        if (!isWithinWindow()) {
+            return Mono.empty();
+        }
+        return schedulerLockService.tryAcquire(TaskPurger.LOCK_NAME, Duration.ofMillis(leaseMs))
+                .filter(Boolean::booleanValue)
+                .flatMap(acquired -> Mono.usingWhen(Mono.just(TaskPurger.LOCK_NAME),
+                        name -> purgeBatches(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(leaseMs)),
+                        schedulerLockService::release));
+    }
+
+    private Mono<Void> purgeBatches(long leaseDeadline) {
+        OffsetDateTime cutoff = OffsetDateTime.now().minusMinutes(graceMinutes);
+        return purgeFrom(cutoff, 0, leaseDeadline)
+                .doOnNext(total -> {
+                    if (total > 0) {
+                        log.info("Purged {} soft-deleted tasks tombstoned before {}", total, cutoff);
+                    }
+                })
+                .then();
+    }
+
+    private Mono<Integer> purgeFrom(OffsetDateTime cutoff, int batch, long leaseDeadline) {
+        return taskPurgeService.purgeBatch(cutoff, batchSize)
+                .flatMap(purged -> purged < batchSize || batch + 1 >= maxBatchesPerRun
+                        ? Mono.just(purged)
+                        : Mono.delay(Duration.ofMillis(batchPauseMs))
+                                .then(Mono.defer(() -> isWithinWindow() && System.nanoTime() - leaseDeadline < 0
+                                        ? purgeFrom(cutoff, batch + 1, leaseDeadline)
+                                        : Mono.just(0)))
+                                .map(rest -> purged + rest));
+    }
+
+    private boolean isWithinWindow() {
+        return TaskPurger.isWithinWindow(LocalTime.now(), windowStart, windowEnd);
+    }
+}
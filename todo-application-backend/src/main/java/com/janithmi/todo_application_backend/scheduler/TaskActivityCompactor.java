@@ -0,0 +1,83 @@
+package com.janithmi.todo_application_backend.scheduler;
+
+import com.janithmi.todo_application_backend.service.SchedulerLockService;
+import com.janithmi.todo_application_backend.service.TaskActivityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trims task_activity entries older than retention-days from the tail of the
+ * sequence, one short transaction per batch.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class TaskActivityCompactor {
+
+    static final String LOCK_NAME = "task-activity-compactor";
+
+    private final TaskActivityService taskActivityService;
+    private final SchedulerLockService schedulerLockService;
+
+    @Value("${todo.activity.retention-days:90}")
+    private long retentionDays = 90;
+
+    @Value("${todo.activity.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${todo.activity.batch-pause-ms:200}")
+    private long batchPauseMs = 200;
+
+    @Value("${todo.activity.max-batches-per-run:100}")
+    private int maxBatchesPerRun = 100;
+
+    @Value("${todo.activity.lease-ms:1800000}")
+    private long leaseMs = 1_800_000;
+
+    @Scheduled(fixedDelayString = "${todo.activity.interval-ms:3600000}",
+            initialDelayString = "${todo.activity.initial-delay-ms:60000}")
+    public void compactActivity() {
+        if (!schedulerLockService.tryAcquire(LOCK_NAME, Duration.ofMillis(leaseMs))) {
+            return;
+        }
+        try {
+            compactBatches(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(leaseMs));
+        } finally {
+            schedulerLockService.release(LOCK_NAME);
+        }
+    }
+
+    private void compactBatches(long leaseDeadline) {
+        ZonedDateTime cutoff = ZonedDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int compacted = taskActivityService.compactBatch(cutoff, batchSize);
+            total += compacted;
+            if (compacted < batchSize || !pause() || System.nanoTime() - leaseDeadline >= 0) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Compacted {} task activity entries older than {}", total, cutoff);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.janithmi.todo_application_backend.scheduler;
+
+import com.janithmi.todo_application_backend.service.SchedulerLockService;
+import com.janithmi.todo_application_backend.service.TaskArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves tasks completed more than retention-days ago into task_archive, one
+ * small transaction per batch with a pause in between so the hot table is
+ * never locked for long.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class TaskArchiver {
+
+    static final String LOCK_NAME = "task-archiver";
+
+    private final TaskArchiveService taskArchiveService;
+    private final SchedulerLockService schedulerLockService;
+
+    @Value("${todo.archive.retention-days:30}")
+    private long retentionDays = 30;
+
+    @Value("${todo.archive.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${todo.archive.batch-pause-ms:200}")
+    private long batchPauseMs = 200;
+
+    @Value("${todo.archive.max-batches-per-run:100}")
+    private int maxBatchesPerRun = 100;
+
+    // Every node schedules the job; the lease lets one run at a time and the run stops before it expires
+    @Value("${todo.archive.lease-ms:1800000}")
+    private long leaseMs = 1_800_000;
+
+    @Scheduled(fixedDelayString = "${todo.archive.interval-ms:3600000}",
+            initialDelayString = "${todo.archive.initial-delay-ms:60000}")
+    public void archiveCompletedTasks() {
+        if (!schedulerLockService.tryAcquire(LOCK_NAME, Duration.ofMillis(leaseMs))) {
+            return;
+        }
+        try {
+            archiveBatches(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(leaseMs));
+        } finally {
+            schedulerLockService.release(LOCK_NAME);
+        }
+    }
+
+    private void archiveBatches(long leaseDeadline) {
+        ZonedDateTime cutoff = ZonedDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int archived = taskArchiveService.archiveBatch(cutoff, batchSize);
+            total += archived;
+            if (archived < batchSize || !pause() || System.nanoTime() - leaseDeadline >= 0) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} tasks completed before {}", total, cutoff);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
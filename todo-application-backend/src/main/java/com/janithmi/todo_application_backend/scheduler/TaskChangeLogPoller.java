@@ -0,0 +1,106 @@
+package com.janithmi.todo_application_backend.scheduler;
+
+import com.janithmi.todo_application_backend.config.CacheConfig;
+import com.janithmi.todo_application_backend.model.TaskChangeLog;
+import com.janithmi.todo_application_backend.repository.TaskChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tails the shared task_change_log table so every backend replica drops its
+ * local copy of the latest-tasks cache when any replica mutates a task.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class TaskChangeLogPoller {
+
+    private final TaskChangeLogRepository changeLogRepository;
+    private final CacheManager cacheManager;
+
+    @Value("${todo.change-log.batch-size:500}")
+    private int batchSize = 500;
+
+    // How long a skipped sequence number is re-checked before we assume it was rolled back
+    @Value("${todo.change-log.gap-timeout-ms:10000}")
+    private long gapTimeoutMs = 10_000;
+
+    @Value("${todo.change-log.retention-minutes:60}")
+    private long retentionMinutes = 60;
+
+    private long lastSeenId = -1;
+    private final Map<Long, Long> pendingGaps = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelayString = "${todo.change-log.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        if (lastSeenId < 0) {
+            // Nothing is cached before the first poll, so start from the current head
+            lastSeenId = changeLogRepository.findMaxId().orElse(0L);
+            evictLatestTasks();
+            return;
+        }
+
+        boolean changed = resolvePendingGaps();
+
+        List<TaskChangeLog> entries =
+                changeLogRepository.findEntriesAfter(lastSeenId, PageRequest.of(0, batchSize));
+        long now = System.currentTimeMillis();
+        for (TaskChangeLog entry : entries) {
+            // Identity values are handed out before commit, so a lower id can become visible later
+            for (long missing = lastSeenId + 1; missing < entry.getId() && pendingGaps.size() < batchSize; missing++) {
+                pendingGaps.putIfAbsent(missing, now);
+            }
+            lastSeenId = entry.getId();
+            changed = true;
+        }
+
+        if (changed) {
+            evictLatestTasks();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${todo.change-log.gc-interval-ms:300000}")
+    public void purgeExpiredEntries() {
+        int removed = changeLogRepository.deleteEntriesChangedBefore(
+                ZonedDateTime.now().minusMinutes(retentionMinutes));
+        if (removed > 0) {
+            log.debug("Removed {} task change log entries older than {} minutes", removed, retentionMinutes);
+        }
+    }
+
+    long getLastSeenId() {
+        return lastSeenId;
+    }
+
+    private boolean resolvePendingGaps() {
+        if (pendingGaps.isEmpty()) {
+            return false;
+        }
+        List<Long> found = changeLogRepository.findExistingIds(pendingGaps.keySet());
+        found.forEach(pendingGaps::remove);
+
+        long now = System.currentTimeMillis();
+        pendingGaps.values().removeIf(firstSeen -> now - firstSeen > gapTimeoutMs);
+        return !found.isEmpty();
+    }
+
+    private void evictLatestTasks() {
+        Cache cache = cacheManager.getCache(CacheConfig.LATEST_TASKS_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
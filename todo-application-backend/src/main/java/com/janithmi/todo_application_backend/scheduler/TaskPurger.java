@@ -0,0 +1,109 @@
+package com.janithmi.todo_application_backend.scheduler;
+
+import com.janithmi.todo_application_backend.service.SchedulerLockService;
+import com.janithmi.todo_application_backend.service.TaskPurgeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Removes soft-deleted tasks in throttled batches, only inside the configured
+ * off-peak window so index churn never competes with daytime traffic.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class TaskPurger {
+
+    static final String LOCK_NAME = "task-purger";
+
+    private final TaskPurgeService taskPurgeService;
+    private final SchedulerLockService schedulerLockService;
+
+    // Local server time, HH:mm; a window whose end is before its start wraps past midnight
+    @Value("${todo.purge.window-start:01:00}")
+    private String windowStart = "01:00";
+
+    @Value("${todo.purge.window-end:05:00}")
+    private String windowEnd = "05:00";
+
+    @Value("${todo.purge.grace-minutes:60}")
+    private long graceMinutes = 60;
+
+    @Value("${todo.purge.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${todo.purge.batch-pause-ms:200}")
+    private long batchPauseMs = 200;
+
+    @Value("${todo.purge.max-batches-per-run:100}")
+    private int maxBatchesPerRun = 100;
+
+    @Value("${todo.purge.lease-ms:1800000}")
+    private long leaseMs = 1_800_000;
+
+    @Scheduled(fixedDelayString = "${todo.purge.interval-ms:600000}",
+            initialDelayString = "${todo.purge.initial-delay-ms:60000}")
+    public void purgeDeletedTasks() {
+        if (!isWithinWindow(LocalTime.now())
+                || !schedulerLockService.tryAcquire(LOCK_NAME, Duration.ofMillis(leaseMs))) {
+            return;
+        }
+        try {
+            purgeBatches(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(leaseMs));
+        } finally {
+            schedulerLockService.release(LOCK_NAME);
+        }
+    }
+
+    private void purgeBatches(long leaseDeadline) {
+        ZonedDateTime cutoff = ZonedDateTime.now().minusMinutes(graceMinutes);
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int purged = taskPurgeService.purgeBatch(cutoff, batchSize);
+            total += purged;
+            if (purged < batchSize || !pause() || !isWithinWindow(LocalTime.now())
+                    || System.nanoTime() - leaseDeadline >= 0) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Purged {} soft-deleted tasks tombstoned before {}", total, cutoff);
+        }
+    }
+
+    boolean isWithinWindow(LocalTime time) {
+        return isWithinWindow(time, windowStart, windowEnd);
+    }
+
+    static boolean isWithinWindow(LocalTime time, String windowStart, String windowEnd) {
+        LocalTime start = LocalTime.parse(windowStart);
+        LocalTime end = LocalTime.parse(windowEnd);
+        if (start.equals(end)) {
+            return true;
+        }
+        if (start.isBefore(end)) {
+            return !time.isBefore(start) && time.isBefore(end);
+        }
+        return !time.isBefore(start) || time.isBefore(end);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.janithmi.todo_application_backend.service.Impl;
+
+import com.janithmi.todo_application_backend.dto.TaskActivityResponse;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Trims an ascending activity page at the first sequence gap that may still fill in.
+ * IDENTITY values are handed out at insert time, so a lower sequence can commit after a
+ * higher one is already visible and a reader moving its afterSequence cursor past it would
+ * never see it. Like the gap timeout in TaskChangeLogPoller, a gap is taken as final once
+ * the row after it is older than the settle window.
+ */
+final class ActivityFeedGaps {
+
+    private ActivityFeedGaps() {
+    }
+
+    static List<TaskActivityResponse> settledPrefix(long afterSequence, List<TaskActivityResponse> ascending,
+                                                    ZonedDateTime settledBefore) {
+        long expected = afterSequence + 1;
+        int settled = 0;
+        for (TaskActivityResponse activity : ascending) {
+            if (activity.getSequence() != expected && activity.getOccurredAt().isAfter(settledBefore)) {
+                break;
+            }
+            expected = activity.getSequence() + 1;
+            settled++;
+        }
+        return List.copyOf(ascending.subList(0, settled));
+    }
+}
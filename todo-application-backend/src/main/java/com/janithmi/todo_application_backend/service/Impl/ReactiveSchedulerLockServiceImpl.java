@@ -0,0 +1,89 @@
+package com.janithmi.todo_application_backend.service.Impl;
+
+import com.janithmi.todo_application_backend.service.ReactiveSchedulerLockService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Same lease protocol as {@link SchedulerLockServiceImpl}, issued through R2DBC. Each
+ * statement commits on its own, like the JPA repository methods it mirrors.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveSchedulerLockServiceImpl implements ReactiveSchedulerLockService {
+    private final DatabaseClient databaseClient;
+
+    // Unique per JVM so two instances on one host never share a lease
+    private final String owner;
+
+    public ReactiveSchedulerLockServiceImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+        this.owner = hostName() + ":" + UUID.randomUUID();
+    }
+
+    @Override
+    public Mono<Boolean> tryAcquire(String name, Duration lease) {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime lockedUntil = now.plus(lease);
+        return databaseClient.sql("update scheduler_lock set locked_until = :lockedUntil, locked_by = :owner"
+                        + " where name = :name and locked_until <= :now")
+                .bind("lockedUntil", lockedUntil)
+                .bind("owner", owner)
+                .bind("name", name)
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated == 1
+                        ? Mono.just(true)
+                        : lockExists(name).flatMap(exists -> exists
+                                ? Mono.just(false)
+                                : insertLock(name, lockedUntil)));
+    }
+
+    @Override
+    public Mono<Void> release(String name) {
+        return databaseClient.sql("update scheduler_lock set locked_until = :now where name = :name and locked_by = :owner")
+                .bind("now", OffsetDateTime.now())
+                .bind("name", name)
+                .bind("owner", owner)
+                .then();
+    }
+
+    private Mono<Boolean> lockExists(String name) {
+        return databaseClient.sql("select name from scheduler_lock where name = :name")
+                .bind("name", name)
+                .map((row, metadata) -> row.get("name", String.class))
+                .one()
+                .hasElement();
+    }
+
+    // First run of this job anywhere; a node that loses the insert race does not get the lease
+    private Mono<Boolean> insertLock(String name, OffsetDateTime lockedUntil) {
+        return databaseClient.sql("insert into scheduler_lock (name, locked_until, locked_by)"
+                        + " values (:name, :lockedUntil, :owner)")
+                .bind("name", name)
+                .bind("lockedUntil", lockedUntil)
+                .bind("owner", owner)
+                .fetch()
+                .rowsUpdated()
+                .map(inserted -> inserted == 1)
+                .onErrorResume(DataIntegrityViolationException.class, ex -> Mono.just(false));
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown-host";
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.janithmi.todo_application_backend.service.Impl;
+
+import com.janithmi.todo_application_backend.dto.TaskActivityResponse;
+import com.janithmi.todo_application_backend.exception.InvalidRequestException;
+import com.janithmi.todo_application_backend.model.ChangeType;
+import com.janithmi.todo_application_backend.service.ReactiveTaskActivityService;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTaskActivityServiceImpl implements ReactiveTaskActivityService {
+
+    private static final String ACTIVITY_COLUMNS = "a.id, a.task_id, a.activity_type, a.task_title, a.occurred_at";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    @Value("${todo.activity.settle-ms:10000}")
+    private long settleMs = 10_000;
+
+    @Override
+    public Flux<TaskActivityResponse> getActivityFeed(Long beforeSequence, Long afterSequence, int limit) {
+        if (beforeSequence != null && afterSequence != null) {
+            return Flux.error(new InvalidRequestException("Pass either beforeSequence or afterSequence, not both"));
+        }
+        if (afterSequence != null) {
+            // The page is at most limit rows, so it is collected to drop anything past a fresh gap
+            return databaseClient.sql("select " + ACTIVITY_COLUMNS + " from task_activity a"
+                            + " where a.id > :afterId order by a.id asc limit :limit")
+                    .bind("afterId", afterSequence)
+                    .bind("limit", limit)
+                    .map(this::mapToTaskActivityResponse)
+                    .all()
+                    .collectList()
+                    .flatMapIterable(ascending -> ActivityFeedGaps.settledPrefix(afterSequence, ascending,
+                            ZonedDateTime.now().minus(Duration.ofMillis(settleMs))));
+        }
+        return databaseClient.sql("select " + ACTIVITY_COLUMNS + " from task_activity a"
+                        + " where a.id < :beforeId order by a.id desc limit :limit")
+                .bind("beforeId", beforeSequence != null ? beforeSequence : Long.MAX_VALUE)
+                .bind("limit", limit)
+                .map(this::mapToTaskActivityResponse)
+                .all();
+    }
+
+    /**
+     * Same statements as {@link TaskActivityServiceImpl#compactBatch}: up to batchSize rows
+     * older than the cutoff, bounded by a sequence range.
+     */
+    @Override
+    public Mono<Integer> compactBatch(OffsetDateTime cutoff, int batchSize) {
+        Mono<Integer> compact = databaseClient.sql(
+                        "select a.id from task_activity a where a.occurred_at < :cutoff order by a.id asc limit :limit")
+                .bind("cutoff", cutoff)
+                .bind("limit", batchSize)
+                .map((row, metadata) -> row.get("id", Long.class))
+                .all()
+                .collectList()
+                .flatMap(ids -> ids.isEmpty()
+                        ? Mono.just(0)
+                        : databaseClient.sql("delete from task_activity where id between :fromId and :toId"
+                                        + " and occurred_at < :cutoff")
+                                .bind("fromId", ids.get(0))
+                                .bind("toId", ids.get(ids.size() - 1))
+                                .bind("cutoff", cutoff)
+                                .fetch()
+                                .rowsUpdated()
+                                .map(Long::intValue));
+        return transactionalOperator.transactional(compact);
+    }
+
+    private TaskActivityResponse mapToTaskActivityResponse(Row row, RowMetadata metadata) {
+        OffsetDateTime occurredAt = row.get("occurred_at", OffsetDateTime.class);
+        return TaskActivityResponse.builder()
+                .sequence(row.get("id", Long.class))
+                .taskId(row.get("task_id", Long.class))
+                .type(ChangeType.valueOf(row.get("activity_type", String.class)))
+                .title(row.get("task_title", String.class))
+                .occurredAt(occurredAt != null ? occurredAt.toZonedDateTime() : null)
+                .build();
+    }
+}
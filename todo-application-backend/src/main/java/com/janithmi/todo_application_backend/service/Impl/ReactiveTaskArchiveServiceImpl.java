@@ -0,0 +1,122 @@
+package com.janithmi.todo_application_backend.service.Impl;
+
+import com.janithmi.todo_application_backend.dto.ArchivedTaskResponse;
+import com.janithmi.todo_application_backend.mapper.TaskMapper;
+import com.janithmi.todo_application_backend.model.TaskArchive;
+import com.janithmi.todo_application_backend.service.ReactiveTaskArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTaskArchiveServiceImpl implements ReactiveTaskArchiveService {
+
+    private final DatabaseClient databaseClient;
+    private final TaskMapper taskMapper;
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * Same statements as {@link TaskArchiveServiceImpl#archiveBatch}: up to batchSize
+     * archivable tasks, bounded by an id range, moved in one transaction.
+     */
+    @Override
+    public Mono<Integer> archiveBatch(OffsetDateTime cutoff, int batchSize) {
+        Mono<Integer> archive = databaseClient.sql("select t.id from task t where t.is_completed = true"
+                        + " and t.deleted_at is null"
+                        + " and (t.completed_at < :cutoff or (t.completed_at is null and t.created_at < :cutoff))"
+                        + " order by t.id asc limit :limit")
+                .bind("cutoff", cutoff)
+                .bind("limit", batchSize)
+                .map((row, metadata) -> row.get("id", Long.class))
+                .all()
+                .collectList()
+                .flatMap(ids -> ids.isEmpty()
+                        ? Mono.just(0)
+                        : moveRange(ids.get(0), ids.get(ids.size() - 1), cutoff));
+        return transactionalOperator.transactional(archive);
+    }
+
+    private Mono<Integer> moveRange(Long fromId, Long toId, OffsetDateTime cutoff) {
+        Mono<Long> copyTasks = databaseClient.sql(
+                        "insert into task_archive (id, title, description, created_at, completed_at, archived_at)"
+                                + " select t.id, t.title, t.description, t.created_at, t.completed_at, :archivedAt"
+                                + " from task t where t.id between :fromId and :toId and t.is_completed = true"
+                                + " and t.deleted_at is null"
+                                + " and (t.completed_at < :cutoff or (t.completed_at is null and t.created_at < :cutoff))")
+                .bind("archivedAt", OffsetDateTime.now())
+                .bind("fromId", fromId)
+                .bind("toId", toId)
+                .bind("cutoff", cutoff)
+                .fetch()
+                .rowsUpdated();
+        return copyTasks.flatMap(archived -> executeInRange("insert into task_archive_tag (task_id, tag_id)"
+                        + " select tt.task_id, tt.tag_id from task_tag tt join task_archive a on a.id = tt.task_id"
+                        + " where tt.task_id between :fromId and :toId", fromId, toId)
+                .then(executeInRange("delete from task_tag where task_id between :fromId and :toId"
+                        + " and task_id in (select a.id from task_archive a where a.id between :fromId and :toId)",
+                        fromId, toId))
+                .then(executeInRange("delete from task where id between :fromId and :toId"
+                        + " and id in (select a.id from task_archive a where a.id between :fromId and :toId)",
+                        fromId, toId))
+                .thenReturn(archived.intValue()));
+    }
+
+    private Mono<Long> executeInRange(String sql, Long fromId, Long toId) {
+        return databaseClient.sql(sql)
+                .bind("fromId", fromId)
+                .bind("toId", toId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    // One statement: the page is cut in a derived table, then its tags are joined in and grouped as rows arrive
+    @Override
+    public Flux<ArchivedTaskResponse> getArchivedTasks(Long beforeId, int limit) {
+        Long cursor = beforeId != null ? beforeId : Long.MAX_VALUE;
+        return databaseClient.sql("select a.id, a.title, a.description, a.created_at, a.completed_at, a.archived_at,"
+                        + " g.name as tag_name from (select * from task_archive where id < :beforeId"
+                        + " order by id desc limit :limit) a"
+                        + " left join task_archive_tag tt on tt.task_id = a.id left join tag g on g.id = tt.tag_id"
+                        + " order by a.id desc, g.name")
+                .bind("beforeId", cursor)
+                .bind("limit", limit)
+                .map((row, metadata) -> Map.entry(TaskArchive.builder()
+                                .id(row.get("id", Long.class))
+                                .title(row.get("title", String.class))
+                                .description(row.get("description", String.class))
+                                .createdAt(toZoned(row.get("created_at", OffsetDateTime.class)))
+                                .completedAt(toZoned(row.get("completed_at", OffsetDateTime.class)))
+                                .archivedAt(toZoned(row.get("archived_at", OffsetDateTime.class)))
+                                .build(),
+                        Objects.requireNonNullElse(row.get("tag_name", String.class), "")))
+                .all()
+                .bufferUntilChanged(entry -> entry.getKey().getId())
+                .map(this::mapWithTags);
+    }
+
+    private ArchivedTaskResponse mapWithTags(List<Map.Entry<TaskArchive, String>> rows) {
+        ArchivedTaskResponse response = taskMapper.mapToArchivedTaskResponse(rows.get(0).getKey());
+        response.setTags(rows.stream()
+                .map(Map.Entry::getValue)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toList()));
+        return response;
+    }
+
+    private static ZonedDateTime toZoned(OffsetDateTime value) {
+        return value != null ? value.toZonedDateTime() : null;
+    }
+}
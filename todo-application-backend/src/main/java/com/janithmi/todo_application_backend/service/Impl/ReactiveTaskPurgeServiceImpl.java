@@ -0,0 +1,56 @@
+package com.janithmi.todo_application_backend.service.Impl;
+
+import com.janithmi.todo_application_backend.service.ReactiveTaskPurgeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTaskPurgeServiceImpl implements ReactiveTaskPurgeService {
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * Same statements as {@link TaskPurgeServiceImpl#purgeBatch}: up to batchSize tasks
+     * tombstoned before the cutoff, bounded by an id range, in one transaction.
+     */
+    @Override
+    public Mono<Integer> purgeBatch(OffsetDateTime cutoff, int batchSize) {
+        Mono<Integer> purge = databaseClient.sql(
+                        "select id from task where deleted_at < :cutoff order by id asc limit :limit")
+                .bind("cutoff", cutoff)
+                .bind("limit", batchSize)
+                .map((row, metadata) -> row.get("id", Long.class))
+                .all()
+                .collectList()
+                .flatMap(ids -> ids.isEmpty()
+                        ? Mono.just(0)
+                        : deleteRange(ids.get(0), ids.get(ids.size() - 1), cutoff));
+        return transactionalOperator.transactional(purge);
+    }
+
+    private Mono<Integer> deleteRange(Long fromId, Long toId, OffsetDateTime cutoff) {
+        return databaseClient.sql("delete from task_tag where task_id between :fromId and :toId"
+                        + " and task_id in (select t.id from task t where t.id between :fromId and :toId"
+                        + " and t.deleted_at < :cutoff)")
+                .bind("fromId", fromId)
+                .bind("toId", toId)
+                .bind("cutoff", cutoff)
+                .fetch()
+                .rowsUpdated()
+                .then(databaseClient.sql("delete from task where id between :fromId and :toId and deleted_at < :cutoff")
+                        .bind("fromId", fromId)
+                        .bind("toId", toId)
+                        .bind("cutoff", cutoff)
+                        .fetch()
+                        .rowsUpdated())
+                .map(Long::intValue);
+    }
+}
@@ -0,0 +1,292 @@
+package com.janithmi.todo_application_backend.service.Impl;
+
+import com.janithmi.todo_application_backend.dto.TaskRequest;
+import com.janithmi.todo_application_backend.dto.TaskResponse;
+import com.janithmi.todo_application_backend.exception.InvalidRequestException;
+import com.janithmi.todo_application_backend.exception.TaskNotFoundException;
+import com.janithmi.todo_application_backend.mapper.TaskMapper;
+import com.janithmi.todo_application_backend.model.ChangeType;
+import com.janithmi.todo_application_backend.model.Tag;
+import com.janithmi.todo_application_backend.model.Task;
+import com.janithmi.todo_application_backend.service.ReactiveTaskService;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * R2DBC implementation of the task API. It writes the same tables as
+ * {@link TaskServiceImpl}, including task_change_log and task_activity, so servlet and reactive
+ * nodes can run side by side against one database.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTaskServiceImpl implements ReactiveTaskService {
+
+    private static final String TASK_COLUMNS = "t.id, t.title, t.description, t.is_completed, t.created_at";
+
+    private final DatabaseClient databaseClient;
+    private final TaskMapper taskMapper;
+    private final TransactionalOperator transactionalOperator;
+
+    @Value("${todo.delete.max-ids:500}")
+    private int maxDeleteIds = 500;
+
+    @Override
+    public Mono<TaskResponse> createTask(TaskRequest taskRequest) {
+        Task task = taskMapper.mapToTask(taskRequest);
+        Set<String> tagNames;
+        try {
+            tagNames = Tag.normalizeNames(taskRequest.getTags());
+        } catch (InvalidRequestException ex) {
+            return Mono.error(ex);
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+
+        Mono<TaskResponse> create = insertTask(task, now)
+                .flatMap(taskId -> resolveTagIds(tagNames)
+                        .concatMap(tagId -> linkTag(taskId, tagId))
+                        .then(recordChange(taskId, ChangeType.CREATED, now))
+                        .then(recordActivity(taskId, ChangeType.CREATED, now))
+                        .thenReturn(taskId))
+                .map(taskId -> {
+                    task.setId(taskId);
+                    task.setCreatedAt(now.toZonedDateTime());
+                    TaskResponse response = taskMapper.mapToTaskResponse(task);
+                    response.setTags(tagNames.stream().sorted().collect(Collectors.toList()));
+                    return response;
+                });
+        return transactionalOperator.transactional(create);
+    }
+
+    @Override
+    public Flux<TaskResponse> getLatestTasksActivities(int limit) {
+        return withTags("select t.id from task t where t.is_completed = false and t.deleted_at is null"
+                        + " order by t.created_at desc limit :limit",
+                spec -> spec.bind("limit", limit));
+    }
+
+    @Override
+    public Flux<TaskResponse> getLatestTasksActivitiesByTag(int limit, String tag) {
+        // Filters and orders on the task_tag copies of the task columns; see TaskTag
+        return withTags("select tt.task_id as id from task_tag tt join tag g on g.id = tt.tag_id"
+                        + " where g.name = :tag and tt.is_completed = false and tt.deleted_at is null"
+                        + " order by tt.created_at desc limit :limit",
+                spec -> spec.bind("tag", Tag.normalizeName(tag)).bind("limit", limit));
+    }
+
+    @Override
+    public Mono<Void> completeTask(Long id) {
+        OffsetDateTime now = OffsetDateTime.now();
+        // Only the open -> completed transition matches, so a repeated complete records nothing
+        Mono<Void> complete = databaseClient.sql("update task set is_completed = true, completed_at = :completedAt"
+                        + " where id = :id and deleted_at is null and is_completed = false")
+                .bind("completedAt", now)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated > 0
+                        ? completeTaskTags(id)
+                                .then(recordChange(id, ChangeType.COMPLETED, now))
+                                .then(recordActivity(id, ChangeType.COMPLETED, now))
+                        : liveTaskExists(id).flatMap(exists -> exists
+                                ? Mono.<Void>empty()
+                                : Mono.<Void>error(new TaskNotFoundException("Task not found with id: " + id))));
+        return transactionalOperator.transactional(complete);
+    }
+
+    private Mono<Long> completeTaskTags(Long taskId) {
+        return databaseClient.sql("update task_tag set is_completed = true where task_id = :taskId")
+                .bind("taskId", taskId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private Mono<Boolean> liveTaskExists(Long id) {
+        return databaseClient.sql("select t.id from task t where t.id = :id and t.deleted_at is null")
+                .bind("id", id)
+                .map((row, metadata) -> row.get("id", Long.class))
+                .one()
+                .hasElement();
+    }
+
+    @Override
+    public Mono<Void> deleteTask(Long id) {
+        return deleteTasks(List.of(id))
+                .flatMap(deleted -> deleted == 0
+                        ? Mono.<Void>error(new TaskNotFoundException("Task not found with id: " + id))
+                        : Mono.<Void>empty());
+    }
+
+    @Override
+    public Mono<Integer> deleteTasks(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Mono.just(0);
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.size() > maxDeleteIds) {
+            return Mono.error(new InvalidRequestException("At most " + maxDeleteIds + " ids can be deleted per request"));
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        // Locking the live rows first means only ids this call tombstones get a DELETED change
+        Mono<Integer> delete = databaseClient.sql(
+                        "select id from task where id in (:ids) and deleted_at is null for update")
+                .bind("ids", new ArrayList<>(distinctIds))
+                .map((row, metadata) -> row.get("id", Long.class))
+                .all()
+                .collectList()
+                .flatMap(liveIds -> liveIds.isEmpty()
+                        ? Mono.just(0)
+                        : databaseClient.sql(
+                                        "update task set deleted_at = :deletedAt where id in (:ids) and deleted_at is null")
+                                .bind("deletedAt", now)
+                                .bind("ids", liveIds)
+                                .fetch()
+                                .rowsUpdated()
+                                .flatMap(deleted -> databaseClient.sql("update task_tag set deleted_at = :deletedAt"
+                                                + " where task_id in (:ids) and deleted_at is null")
+                                        .bind("deletedAt", now)
+                                        .bind("ids", liveIds)
+                                        .fetch()
+                                        .rowsUpdated()
+                                        .thenReturn(deleted))
+                                .flatMap(deleted -> Flux.fromIterable(liveIds)
+                                        .concatMap(id -> recordChange(id, ChangeType.DELETED, now))
+                                        .then(Mono.just(deleted.intValue()))));
+        return transactionalOperator.transactional(delete);
+    }
+
+    private Mono<Long> insertTask(Task task, OffsetDateTime createdAt) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                "insert into task (title, description, is_completed, created_at)"
+                        + " values (:title, :description, false, :createdAt)");
+        spec = bindNullable(spec, "title", task.getTitle());
+        spec = bindNullable(spec, "description", task.getDescription());
+        return spec.bind("createdAt", createdAt)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map((row, metadata) -> row.get("id", Long.class))
+                .one();
+    }
+
+    private Flux<Long> resolveTagIds(Set<String> names) {
+        if (names.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql("select g.id, g.name from tag g where g.name in (:names)")
+                .bind("names", new ArrayList<>(names))
+                .map((row, metadata) -> Map.entry(row.get("name", String.class), row.get("id", Long.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .flatMapMany(existing -> Flux.fromIterable(names)
+                        .concatMap(name -> existing.containsKey(name)
+                                ? Mono.just(existing.get(name))
+                                : insertTag(name).onErrorResume(DataIntegrityViolationException.class,
+                                        ex -> findCommittedTagId(name).switchIfEmpty(Mono.error(ex)))));
+    }
+
+    // The duplicate insert only fails its own statement; a locking read then sees the other
+    // request's committed row, which a plain read inside this snapshot would not
+    private Mono<Long> findCommittedTagId(String name) {
+        return databaseClient.sql("select g.id from tag g where g.name = :name for update")
+                .bind("name", name)
+                .map((row, metadata) -> row.get("id", Long.class))
+                .one();
+    }
+
+    private Mono<Long> insertTag(String name) {
+        return databaseClient.sql("insert into tag (name) values (:name)")
+                .bind("name", name)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map((row, metadata) -> row.get("id", Long.class))
+                .one();
+    }
+
+    // Copies the task columns from the row written earlier in the same transaction
+    private Mono<Long> linkTag(Long taskId, Long tagId) {
+        return databaseClient.sql("insert into task_tag (task_id, tag_id, is_completed, deleted_at, created_at)"
+                        + " select t.id, :tagId, t.is_completed, t.deleted_at, t.created_at from task t where t.id = :taskId")
+                .bind("taskId", taskId)
+                .bind("tagId", tagId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private Mono<Void> recordChange(Long taskId, ChangeType changeType, OffsetDateTime changedAt) {
+        return databaseClient.sql("insert into task_change_log (task_id, change_type, changed_at)"
+                        + " values (:taskId, :changeType, :changedAt)")
+                .bind("taskId", taskId)
+                .bind("changeType", changeType.name())
+                .bind("changedAt", changedAt)
+                .then();
+    }
+
+    // Copies the title from the task row written earlier in the same transaction
+    private Mono<Void> recordActivity(Long taskId, ChangeType activityType, OffsetDateTime occurredAt) {
+        return databaseClient.sql("insert into task_activity (task_id, activity_type, task_title, occurred_at)"
+                        + " select t.id, :activityType, t.title, :occurredAt from task t where t.id = :taskId")
+                .bind("taskId", taskId)
+                .bind("activityType", activityType.name())
+                .bind("occurredAt", occurredAt)
+                .then();
+    }
+
+    /**
+     * Wraps a page query that selects task ids so the page and its
+     * tags come back in one statement. Rows of one task are adjacent, so each task is
+     * emitted as soon as the first row of the next one arrives.
+     */
+    private Flux<TaskResponse> withTags(String pageQuery,
+                                        UnaryOperator<DatabaseClient.GenericExecuteSpec> bindings) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("select " + TASK_COLUMNS + ", g.name as tag_name"
+                + " from (" + pageQuery + ") p join task t on t.id = p.id"
+                + " left join task_tag tt on tt.task_id = t.id left join tag g on g.id = tt.tag_id"
+                + " order by t.created_at desc, t.id desc, g.name");
+        return bindings.apply(spec)
+                .map((row, metadata) -> Map.entry(mapToTask(row, metadata),
+                        Objects.requireNonNullElse(row.get("tag_name", String.class), "")))
+                .all()
+                .bufferUntilChanged(entry -> entry.getKey().getId())
+                .map(rows -> {
+                    TaskResponse response = taskMapper.mapToTaskResponse(rows.get(0).getKey());
+                    response.setTags(rows.stream()
+                            .map(Map.Entry::getValue)
+                            .filter(name -> !name.isEmpty())
+                            .collect(Collectors.toList()));
+                    return response;
+                });
+    }
+
+    private Task mapToTask(Row row, RowMetadata metadata) {
+        OffsetDateTime createdAt = row.get("created_at", OffsetDateTime.class);
+        return Task.builder()
+                .id(row.get("id", Long.class))
+                .title(row.get("title", String.class))
+                .description(row.get("description", String.class))
+                .isCompleted(Boolean.TRUE.equals(row.get("is_completed", Boolean.class)))
+                .createdAt(createdAt != null ? createdAt.toZonedDateTime() : null)
+                .build();
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec,
+                                                           String name, String value) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, String.class);
+    }
+}
@@ -0,0 +1,62 @@
+package com.janithmi.todo_application_backend.service.Impl;
+
+import com.janithmi.todo_application_backend.repository.SchedulerLockRepository;
+import com.janithmi.todo_application_backend.service.SchedulerLockService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * Lease-based mutual exclusion for jobs that run on every node. A crashed
+ * holder blocks the job only until its lease runs out.
+ */
+@Service
+@Profile("!reactive")
+public class SchedulerLockServiceImpl implements SchedulerLockService {
+    private final SchedulerLockRepository schedulerLockRepository;
+
+    // Unique per JVM so two instances on one host never share a lease
+    private final String owner;
+
+    public SchedulerLockServiceImpl(SchedulerLockRepository schedulerLockRepository) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.owner = hostName() + ":" + UUID.randomUUID();
+    }
+
+    @Override
+    public boolean tryAcquire(String name, Duration lease) {
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime lockedUntil = now.plus(lease);
+        if (schedulerLockRepository.acquireExpired(name, owner, now, lockedUntil) == 1) {
+            return true;
+        }
+        if (schedulerLockRepository.existsById(name)) {
+            return false;
+        }
+        // First run of this job anywhere; a node that loses the insert race does not get the lease
+        try {
+            return schedulerLockRepository.insertLock(name, owner, lockedUntil) == 1;
+        } catch (DataIntegrityViolationException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public void release(String name) {
+        schedulerLockRepository.release(name, owner, ZonedDateTime.now());
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown-host";
+        }
+    }
+}
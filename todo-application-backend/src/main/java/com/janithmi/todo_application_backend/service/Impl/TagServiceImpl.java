@@ -0,0 +1,35 @@
+package com.janithmi.todo_application_backend.service.Impl;
+
+import com.janithmi.todo_application_backend.model.Tag;
+import com.janithmi.todo_application_backend.repository.TagRepository;
+import com.janithmi.todo_application_backend.service.TagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class TagServiceImpl implements TagService {
+    private final TagRepository tagRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts on the caller's connection and transaction, so creating a tag never needs a second
+     * pooled connection. A duplicate name fails only this statement, and since the exception does
+     * not cross a transactional proxy the caller's transaction stays committable. The locking
+     * re-read then returns the row a concurrent request committed.
+     */
+    @Override
+    public Tag findOrCreateTag(String name) {
+        try {
+            jdbcTemplate.update("INSERT INTO tag (name) VALUES (?)", name);
+        } catch (DuplicateKeyException ex) {
+            // Another request created it first
+        }
+        return tagRepository.findCommittedByName(name)
+                .orElseThrow(() -> new IllegalStateException("Tag not found after insert: " + name));
+    }
+}
@@ -0,0 +1,63 @@
+package com.janithmi.todo_application_backend.service.Impl;
+
+import com.janithmi.todo_application_backend.dto.TaskActivityResponse;
+import com.janithmi.todo_application_backend.exception.InvalidRequestException;
+import com.janithmi.todo_application_backend.mapper.TaskMapper;
+import com.janithmi.todo_application_backend.repository.TaskActivityRepository;
+import com.janithmi.todo_application_backend.service.TaskActivityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class TaskActivityServiceImpl implements TaskActivityService {
+    private final TaskActivityRepository taskActivityRepository;
+    private final TaskMapper taskMapper;
+
+    @Value("${todo.activity.settle-ms:10000}")
+    private long settleMs = 10_000;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskActivityResponse> getActivityFeed(Long beforeSequence, Long afterSequence, int limit) {
+        if (beforeSequence != null && afterSequence != null) {
+            throw new InvalidRequestException("Pass either beforeSequence or afterSequence, not both");
+        }
+        if (afterSequence != null) {
+            List<TaskActivityResponse> ascending = taskActivityRepository
+                    .findActivitiesAfter(afterSequence, PageRequest.of(0, limit)).stream()
+                    .map(taskMapper::mapToTaskActivityResponse)
+                    .collect(Collectors.toList());
+            return ActivityFeedGaps.settledPrefix(afterSequence, ascending,
+                    ZonedDateTime.now().minus(Duration.ofMillis(settleMs)));
+        }
+        Long cursor = beforeSequence != null ? beforeSequence : Long.MAX_VALUE;
+        return taskActivityRepository.findActivitiesBefore(cursor, PageRequest.of(0, limit)).stream()
+                .map(taskMapper::mapToTaskActivityResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Deletes up to batchSize activity rows older than the cutoff, bounded by
+     * a sequence range like the archive and purge batches.
+     */
+    @Override
+    @Transactional
+    public int compactBatch(ZonedDateTime cutoff, int batchSize) {
+        List<Long> ids = taskActivityRepository.findCompactableIds(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return taskActivityRepository.deleteCompactableActivities(ids.get(0), ids.get(ids.size() - 1), cutoff);
+    }
+}
@@ -0,0 +1,75 @@
+package com.janithmi.todo_application_backend.service.Impl;
+
+import com.janithmi.todo_application_backend.dto.ArchivedTaskResponse;
+import com.janithmi.todo_application_backend.mapper.TaskMapper;
+import com.janithmi.todo_application_backend.model.TaskArchive;
+import com.janithmi.todo_application_backend.repository.TaskArchiveRepository;
+import com.janithmi.todo_application_backend.repository.TaskRepository;
+import com.janithmi.todo_application_backend.repository.TaskTagName;
+import com.janithmi.todo_application_backend.service.TaskArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class TaskArchiveServiceImpl implements TaskArchiveService {
+    private final TaskRepository taskRepository;
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final TaskMapper taskMapper;
+
+    /**
+     * Moves up to batchSize archivable tasks, bounded by an id range so each
+     * statement only touches rows in that range.
+     */
+    @Override
+    @Transactional
+    public int archiveBatch(ZonedDateTime cutoff, int batchSize) {
+        List<Long> ids = taskRepository.findArchivableTaskIds(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Long fromId = ids.get(0);
+        Long toId = ids.get(ids.size() - 1);
+
+        int archived = taskArchiveRepository.copyTasks(fromId, toId, cutoff, ZonedDateTime.now());
+        taskArchiveRepository.copyTaskTags(fromId, toId);
+        taskArchiveRepository.deleteArchivedTaskTags(fromId, toId);
+        taskArchiveRepository.deleteArchivedTasks(fromId, toId);
+        return archived;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ArchivedTaskResponse> getArchivedTasks(Long beforeId, int limit) {
+        Long cursor = beforeId != null ? beforeId : Long.MAX_VALUE;
+        List<TaskArchive> archivedTasks =
+                taskArchiveRepository.findArchivedBefore(cursor, PageRequest.of(0, limit));
+        if (archivedTasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> ids = archivedTasks.stream().map(TaskArchive::getId).collect(Collectors.toList());
+        Map<Long, List<String>> tagsByTask = new HashMap<>();
+        for (TaskTagName row : taskArchiveRepository.findTagNamesByTaskIds(ids)) {
+            tagsByTask.computeIfAbsent(row.getTaskId(), id -> new ArrayList<>()).add(row.getTagName());
+        }
+        return archivedTasks.stream()
+                .map(archivedTask -> {
+                    ArchivedTaskResponse response = taskMapper.mapToArchivedTaskResponse(archivedTask);
+                    response.setTags(tagsByTask.getOrDefault(archivedTask.getId(), new ArrayList<>()));
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,37 @@
+package com.janithmi.todo_application_backend.service.Impl;
+
+import com.janithmi.todo_application_backend.repository.TaskRepository;
+import com.janithmi.todo_application_backend.service.TaskPurgeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class TaskPurgeServiceImpl implements TaskPurgeService {
+    private final TaskRepository taskRepository;
+
+    /**
+     * Physically removes up to batchSize tasks tombstoned before the cutoff,
+     * bounded by an id range like the archive batches.
+     */
+    @Override
+    @Transactional
+    public int purgeBatch(ZonedDateTime cutoff, int batchSize) {
+        List<Long> ids = taskRepository.findPurgeableTaskIds(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Long fromId = ids.get(0);
+        Long toId = ids.get(ids.size() - 1);
+
+        taskRepository.deletePurgeableTaskTags(fromId, toId, cutoff);
+        return taskRepository.deletePurgeableTasks(fromId, toId, cutoff);
+    }
+}
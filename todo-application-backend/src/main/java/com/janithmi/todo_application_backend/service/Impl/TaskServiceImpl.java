@@ -1,51 +1,203 @@
 package com.janithmi.todo_application_backend.service.Impl;
 
+import com.janithmi.todo_application_backend.config.CacheConfig;
 import com.janithmi.todo_application_backend.dto.TaskRequest;
 import com.janithmi.todo_application_backend.dto.TaskResponse;
+import com.janithmi.todo_application_backend.exception.InvalidRequestException;
 import com.janithmi.todo_application_backend.exception.TaskNotFoundException;
 import com.janithmi.todo_application_backend.mapper.TaskMapper;
+import com.janithmi.todo_application_backend.model.ChangeType;
+import com.janithmi.todo_application_backend.model.Tag;
 import com.janithmi.todo_application_backend.model.Task;
+import com.janithmi.todo_application_backend.model.TaskActivity;
+import com.janithmi.todo_application_backend.model.TaskChangeLog;
+import com.janithmi.todo_application_backend.repository.TagRepository;
+import com.janithmi.todo_application_backend.repository.TaskActivityRepository;
+import com.janithmi.todo_application_backend.repository.TaskChangeLogRepository;
 import com.janithmi.todo_application_backend.repository.TaskRepository;
+import com.janithmi.todo_application_backend.repository.TaskTagName;
+import com.janithmi.todo_application_backend.service.TagService;
 import com.janithmi.todo_application_backend.service.TaskService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
+    private final TaskChangeLogRepository taskChangeLogRepository;
+    private final TagRepository tagRepository;
+    private final TaskActivityRepository taskActivityRepository;
+    private final TagService tagService;
+
+    // Upper bound on ids per bulk delete, so one request cannot hold row locks on the whole table
+    @Value("${todo.delete.max-ids:500}")
+    private int maxDeleteIds = 500;
 
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.LATEST_TASKS_CACHE, allEntries = true)
     public TaskResponse createTask (TaskRequest taskRequest) {
         Task task =taskMapper.mapToTask(taskRequest);
+        Set<Tag> tags = resolveTags(taskRequest.getTags());
         Task savedTask = taskRepository.save(task);
-        return taskMapper.mapToTaskResponse(savedTask);
+        if (!tags.isEmpty()) {
+            taskRepository.insertTaskTags(savedTask.getId(), tags.stream().map(Tag::getId).collect(Collectors.toList()));
+        }
+        recordChange(savedTask.getId(), ChangeType.CREATED);
+        recordActivity(savedTask, ChangeType.CREATED);
+        TaskResponse response = taskMapper.mapToTaskResponse(savedTask);
+        response.setTags(tags.stream().map(Tag::getName).sorted().collect(Collectors.toList()));
+        return response;
     }
 
+    // Keys carry the cache generation read before the query; see GenerationalCache
     @Override
+    @Cacheable(cacheNames = CacheConfig.LATEST_TASKS_CACHE, key = "@latestTasksCache.generation() + ':' + #limit")
     public List<TaskResponse> getLatestTasksActivities(int limit) {
         Pageable pageable = PageRequest.of(0, limit);
         List<Task> tasks = taskRepository.findLatestActiveTasks(pageable);
-        return tasks.stream()
-                .map(taskMapper::mapToTaskResponse)
-                .collect(Collectors.toList());
+        return mapWithTags(tasks);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.LATEST_TASKS_CACHE, key = "@latestTasksCache.generation() + ':tag:' + T(com.janithmi.todo_application_backend.model.Tag).normalizeName(#tag) + ':' + #limit")
+    public List<TaskResponse> getLatestTasksActivitiesByTag(int limit, String tag) {
+        Pageable pageable = PageRequest.of(0, limit);
+        List<Task> tasks = taskRepository.findLatestActiveTasksByTag(Tag.normalizeName(tag), pageable);
+        return mapWithTags(tasks);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.LATEST_TASKS_CACHE, allEntries = true)
     public void completeTask(Long id) {
-        Task task = taskRepository.findById(id)
+        // Locked so two concurrent completes cannot both see the task still open
+        Task task = taskRepository.findLiveTasksForUpdate(List.of(id)).stream()
+                .findFirst()
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + id));
 
+        // A repeated complete changes nothing: completed_at keeps the first completion, which the
+        // archive cutoff is measured from, and no second event is recorded
+        if (task.isCompleted()) {
+            return;
+        }
         task.setCompleted(true);
+        task.setCompletedAt(ZonedDateTime.now());
         taskRepository.save(task);
+        taskRepository.completeTaskTags(id);
+        recordChange(id, ChangeType.COMPLETED);
+        recordActivity(task, ChangeType.COMPLETED);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.LATEST_TASKS_CACHE, allEntries = true)
+    public void deleteTask(Long id) {
+        if (softDelete(List.of(id)) == 0) {
+            throw new TaskNotFoundException("Task not found with id: " + id);
+        }
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.LATEST_TASKS_CACHE, allEntries = true)
+    public int deleteTasks(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.size() > maxDeleteIds) {
+            throw new InvalidRequestException("At most " + maxDeleteIds + " ids can be deleted per request");
+        }
+        return softDelete(distinctIds);
+    }
+
+    // A single tombstone update; TaskPurger removes the rows later in off-peak batches.
+    // Only rows this call actually tombstones get a DELETED change
+    private int softDelete(Collection<Long> ids) {
+        List<Task> liveTasks = taskRepository.findLiveTasksForUpdate(ids);
+        if (liveTasks.isEmpty()) {
+            return 0;
+        }
+        List<Long> liveIds = liveTasks.stream().map(Task::getId).collect(Collectors.toList());
+        ZonedDateTime deletedAt = ZonedDateTime.now();
+        int deleted = taskRepository.softDeleteByIds(liveIds, deletedAt);
+        taskRepository.softDeleteTaskTags(liveIds, deletedAt);
+        liveIds.forEach(id -> recordChange(id, ChangeType.DELETED));
+        return deleted;
+    }
+
+    // One page query plus one tag query, whatever the page size
+    private List<TaskResponse> mapWithTags(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> taskIds = tasks.stream().map(Task::getId).collect(Collectors.toList());
+        Map<Long, List<String>> tagsByTask = new HashMap<>();
+        for (TaskTagName row : taskRepository.findTagNamesByTaskIds(taskIds)) {
+            tagsByTask.computeIfAbsent(row.getTaskId(), id -> new ArrayList<>()).add(row.getTagName());
+        }
+        return tasks.stream()
+                .map(task -> {
+                    TaskResponse response = taskMapper.mapToTaskResponse(task);
+                    response.setTags(tagsByTask.getOrDefault(task.getId(), new ArrayList<>()));
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private Set<Tag> resolveTags(List<String> names) {
+        Set<String> normalized = Tag.normalizeNames(names);
+        if (normalized.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        Set<Tag> tags = new HashSet<>(tagRepository.findByNameIn(normalized));
+        Set<String> existing = tags.stream().map(Tag::getName).collect(Collectors.toSet());
+        for (String name : normalized) {
+            if (!existing.contains(name)) {
+                tags.add(tagService.findOrCreateTag(name));
+            }
+        }
+        return tags;
+    }
+
+    // Written in the caller's transaction so other nodes never see a change before the task row
+    private void recordChange(Long taskId, ChangeType changeType) {
+        taskChangeLogRepository.save(TaskChangeLog.builder()
+                .taskId(taskId)
+                .changeType(changeType)
+                .build());
+    }
+
+    // Same transaction as the task write, so the feed never shows an event that rolled back
+    private void recordActivity(Task task, ChangeType activityType) {
+        taskActivityRepository.save(TaskActivity.builder()
+                .taskId(task.getId())
+                .activityType(activityType)
+                .taskTitle(task.getTitle())
+                .build());
     }
 
 
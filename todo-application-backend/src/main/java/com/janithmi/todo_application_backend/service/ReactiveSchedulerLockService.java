@@ -0,0 +1,14 @@
+package com.janithmi.todo_application_backend.service;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * {@link SchedulerLockService} for the "reactive" profile. Both share the scheduler_lock
+ * rows, so a job runs on one node at a time whichever stack the nodes use.
+ */
+public interface ReactiveSchedulerLockService {
+    Mono<Boolean> tryAcquire(String name, Duration lease);
+    Mono<Void> release(String name);
+}
@@ -0,0 +1,15 @@
+package com.janithmi.todo_application_backend.service;
+
+import com.janithmi.todo_application_backend.dto.TaskActivityResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+
+/**
+ * {@link TaskActivityService} for the "reactive" profile.
+ */
+public interface ReactiveTaskActivityService {
+    Flux<TaskActivityResponse> getActivityFeed(Long beforeSequence, Long afterSequence, int limit);
+    Mono<Integer> compactBatch(OffsetDateTime cutoff, int batchSize);
+}
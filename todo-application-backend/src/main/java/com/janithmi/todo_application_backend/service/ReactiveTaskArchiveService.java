@@ -0,0 +1,15 @@
+package com.janithmi.todo_application_backend.service;
+
+import com.janithmi.todo_application_backend.dto.ArchivedTaskResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+
+/**
+ * {@link TaskArchiveService} for the "reactive" profile.
+ */
+public interface ReactiveTaskArchiveService {
+    Mono<Integer> archiveBatch(OffsetDateTime cutoff, int batchSize);
+    Flux<ArchivedTaskResponse> getArchivedTasks(Long beforeId, int limit);
+}
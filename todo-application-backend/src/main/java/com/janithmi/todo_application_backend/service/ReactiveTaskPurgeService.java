@@ -0,0 +1,9 @@
+package com.janithmi.todo_application_backend.service;
+
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+
+public interface ReactiveTaskPurgeService {
+    Mono<Integer> purgeBatch(OffsetDateTime cutoff, int batchSize);
+}
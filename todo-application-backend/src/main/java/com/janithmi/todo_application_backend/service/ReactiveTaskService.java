@@ -0,0 +1,20 @@
+package com.janithmi.todo_application_backend.service;
+
+import com.janithmi.todo_application_backend.dto.TaskRequest;
+import com.janithmi.todo_application_backend.dto.TaskResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of {@link TaskService}, served by the "reactive" profile.
+ */
+public interface ReactiveTaskService {
+    Mono<TaskResponse> createTask(TaskRequest taskRequest);
+    Flux<TaskResponse> getLatestTasksActivities(int limit);
+    Flux<TaskResponse> getLatestTasksActivitiesByTag(int limit, String tag);
+    Mono<Void> completeTask(Long id);
+    Mono<Void> deleteTask(Long id);
+    Mono<Integer> deleteTasks(List<Long> ids);
+}
@@ -0,0 +1,8 @@
+package com.janithmi.todo_application_backend.service;
+
+import java.time.Duration;
+
+public interface SchedulerLockService {
+    boolean tryAcquire(String name, Duration lease);
+    void release(String name);
+}
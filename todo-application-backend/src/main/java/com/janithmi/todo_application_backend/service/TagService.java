@@ -0,0 +1,7 @@
+package com.janithmi.todo_application_backend.service;
+
+import com.janithmi.todo_application_backend.model.Tag;
+
+public interface TagService {
+    Tag findOrCreateTag(String name);
+}
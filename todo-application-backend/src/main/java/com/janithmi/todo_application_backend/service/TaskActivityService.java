@@ -0,0 +1,11 @@
+package com.janithmi.todo_application_backend.service;
+
+import com.janithmi.todo_application_backend.dto.TaskActivityResponse;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface TaskActivityService {
+    List<TaskActivityResponse> getActivityFeed(Long beforeSequence, Long afterSequence, int limit);
+    int compactBatch(ZonedDateTime cutoff, int batchSize);
+}
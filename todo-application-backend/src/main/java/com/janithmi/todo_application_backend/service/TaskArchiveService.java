@@ -0,0 +1,11 @@
+package com.janithmi.todo_application_backend.service;
+
+import com.janithmi.todo_application_backend.dto.ArchivedTaskResponse;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface TaskArchiveService {
+    int archiveBatch(ZonedDateTime cutoff, int batchSize);
+    List<ArchivedTaskResponse> getArchivedTasks(Long beforeId, int limit);
+}
@@ -0,0 +1,7 @@
+package com.janithmi.todo_application_backend.service;
+
+import java.time.ZonedDateTime;
+
+public interface TaskPurgeService {
+    int purgeBatch(ZonedDateTime cutoff, int batchSize);
+}
@@ -8,5 +8,8 @@ import java.util.List;
 public interface TaskService {
     TaskResponse createTask(TaskRequest taskRequest);
     List<TaskResponse> getLatestTasksActivities(int limit);
+    List<TaskResponse> getLatestTasksActivitiesByTag(int limit, String tag);
     void completeTask(Long id);
+    void deleteTask(Long id);
+    int deleteTasks(List<Long> ids);
 }
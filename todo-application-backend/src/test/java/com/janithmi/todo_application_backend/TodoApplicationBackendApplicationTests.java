@@ -1,15 +1,29 @@
 package com.janithmi.todo_application_backend;
 
+import io.r2dbc.spi.ConnectionFactory;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
 class TodoApplicationBackendApplicationTests {
 
+	@Autowired
+	private ApplicationContext applicationContext;
+
 	@Test
 	void contextLoads() {
 	}
 
+	// The servlet profile must not open the R2DBC pool that only the reactive profile uses
+	@Test
+	void defaultProfile_shouldNotCreateR2dbcConnectionFactory() {
+		assertThat(applicationContext.getBeanNamesForType(ConnectionFactory.class)).isEmpty();
+	}
+
 }
@@ -0,0 +1,101 @@
+package com.janithmi.todo_application_backend.benchmark;
+
+import com.janithmi.todo_application_backend.monitoring.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the same /recentTasks load against a servlet/JPA node and a WebFlux/R2DBC node
+ * that share one database. Start both first, for example:
+ *   java -jar app.jar --server.port=8080 --spring.cache.type=none
+ *   java -jar app.jar --server.port=8081 --spring.profiles.active=reactive
+ * then run: mvn test -Dbenchmark=true -Dtest=TaskApiLoadBenchmarkTest
+ *   [-Dbenchmark.servletUrl=...] [-Dbenchmark.reactiveUrl=...] [-Dbenchmark.concurrency=...]
+ *   [-Dbenchmark.requests=...] [-Dbenchmark.writeEvery=...]
+ * The reactive stack has no latestTasks cache, so the servlet node runs with caching off and
+ * both stacks query the database on every read. With the cache on, every read between two
+ * writes is answered from memory and the servlet numbers measure the cache, not the stack.
+ * Every writeEvery-th request creates a task on the node under test, to mix short write
+ * transactions into the read load. Set writeEvery=0 for a read-only run.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class TaskApiLoadBenchmarkTest {
+
+    private static final String PATH = "/api/v1/tasks/recentTasks?limit=20";
+    private static final String CREATE_PATH = "/api/v1/tasks/createTask";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private void run(String name, String baseUrl, int concurrency, int requests, int writeEvery) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + PATH))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        HttpRequest write = HttpRequest.newBuilder(URI.create(baseUrl + CREATE_PATH))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"title\":\"benchmark\",\"description\":\"" + name + " load\"}"))
+                .build();
+
+        // Warm up connection pools and JIT before measuring
+        for (int i = 0; i < Math.min(requests / 10, 1_000); i++) {
+            httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        }
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        AtomicLong failures = new AtomicLong();
+        Semaphore inFlight = new Semaphore(concurrency);
+        CompletableFuture<?>[] pending = new CompletableFuture<?>[requests];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            boolean writing = writeEvery > 0 && i % writeEvery == writeEvery - 1;
+            int expectedStatus = writing ? 201 : 200;
+            long sent = System.nanoTime();
+            pending[i] = httpClient.sendAsync(writing ? write : request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        histogram.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sent));
+                        if (error != null || response.statusCode() != expectedStatus) {
+                            failures.incrementAndGet();
+                        }
+                        inFlight.release();
+                    });
+        }
+        CompletableFuture.allOf(pending).exceptionally(error -> null).join();
+        long elapsedNanos = System.nanoTime() - start;
+
+        System.out.printf("%-8s concurrency=%d requests=%d writeEvery=%d throughput=%.0f req/s p50=%dus p99=%dus max=%dus failures=%d%n",
+                name, concurrency, requests, writeEvery, requests / (elapsedNanos / 1e9),
+                histogram.percentileMicros(0.50), histogram.percentileMicros(0.99),
+                histogram.getMaxMicros(), failures.get());
+        assertThat(failures.get()).isZero();
+    }
+
+    @Test
+    void compareServletAndReactiveStacks() throws Exception {
+        String servletUrl = System.getProperty("benchmark.servletUrl", "http://localhost:8080");
+        String reactiveUrl = System.getProperty("benchmark.reactiveUrl", "http://localhost:8081");
+        int concurrency = Integer.getInteger("benchmark.concurrency", 200);
+        int requests = Integer.getInteger("benchmark.requests", 20_000);
+        int writeEvery = Integer.getInteger("benchmark.writeEvery", 10);
+
+        run("servlet", servletUrl, concurrency, requests, writeEvery);
+        run("reactive", reactiveUrl, concurrency, requests, writeEvery);
+    }
+}
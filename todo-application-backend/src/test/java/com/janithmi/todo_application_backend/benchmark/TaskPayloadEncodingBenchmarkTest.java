@@ -0,0 +1,101 @@
+package com.janithmi.todo_application_backend.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.janithmi.todo_application_backend.config.WebConfig;
+import com.janithmi.todo_application_backend.dto.TaskResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the default JSON encoding of /recentTasks pages with the CBOR and Smile encodings.
+ * The JSON baseline is the Boot-configured ObjectMapper the endpoint uses, which writes
+ * timestamps as ISO-8601 strings.
+ * Run with: mvn test -Dbenchmark=true -Dtest=TaskPayloadEncodingBenchmarkTest
+ */
+@JsonTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class TaskPayloadEncodingBenchmarkTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final int TASKS_PER_PAGE = 20;
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 50_000;
+
+    private List<TaskResponse> createPage() {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<TaskResponse> page = new ArrayList<>();
+        for (long i = 1; i <= TASKS_PER_PAGE; i++) {
+            page.add(TaskResponse.builder()
+                    .id(i)
+                    .title("Task " + i)
+                    .description("Buy vegetables and fruits for the week")
+                    .completed(false)
+                    .createdAt(now.minusMinutes(i))
+                    .build());
+        }
+        return page;
+    }
+
+    private long[] measure(ObjectMapper mapper, List<TaskResponse> page) throws Exception {
+        JavaType pageType = mapper.getTypeFactory().constructCollectionType(List.class, TaskResponse.class);
+        byte[] encoded = mapper.writeValueAsBytes(page);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            mapper.readValue(mapper.writeValueAsBytes(page), pageType);
+        }
+
+        long encodeStart = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            encoded = mapper.writeValueAsBytes(page);
+        }
+        long encodeNanos = System.nanoTime() - encodeStart;
+
+        long decodeStart = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            mapper.readValue(encoded, pageType);
+        }
+        long decodeNanos = System.nanoTime() - decodeStart;
+
+        long taskCount = (long) MEASURED_ITERATIONS * page.size();
+        return new long[]{encoded.length / page.size(), encodeNanos / taskCount, decodeNanos / taskCount};
+    }
+
+    private void report(String format, long[] result) {
+        System.out.printf("%-6s bytes/task=%4d  encode ns/task=%5d  decode ns/task=%5d%n",
+                format, result[0], result[1], result[2]);
+    }
+
+    @Test
+    void compareEncodings() throws Exception {
+        List<TaskResponse> page = createPage();
+
+        JsonNode baseline = objectMapper.readTree(objectMapper.writeValueAsBytes(page)).get(0).get("createdAt");
+        assertThat(baseline.isTextual()).isTrue();
+        assertThat(ZonedDateTime.parse(baseline.asText()).toInstant())
+                .isEqualTo(page.get(0).getCreatedAt().toInstant());
+
+        long[] json = measure(objectMapper, page);
+        WebConfig webConfig = new WebConfig();
+        long[] cbor = measure(webConfig.cborHttpMessageConverter().getObjectMapper(), page);
+        long[] smile = measure(webConfig.smileHttpMessageConverter().getObjectMapper(), page);
+
+        report("json", json);
+        report("cbor", cbor);
+        report("smile", smile);
+
+        assertThat(cbor[0]).isLessThan(json[0]);
+        assertThat(smile[0]).isLessThan(json[0]);
+    }
+}
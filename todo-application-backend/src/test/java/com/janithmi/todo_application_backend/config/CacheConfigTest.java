@@ -0,0 +1,69 @@
+package com.janithmi.todo_application_backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CacheConfigTest {
+
+    @Test
+    void latestTasksCache_shouldStayWithinMaxEntries() {
+        GenerationalCache cache = new CacheConfig().latestTasksCache(3, 60_000);
+
+        // One entry per distinct tag a client asks for
+        for (int i = 0; i < 100; i++) {
+            cache.put("tag:random-" + i + ":5", List.of());
+        }
+        Cache<?, ?> nativeCache = (Cache<?, ?>) cache.getNativeCache();
+        nativeCache.cleanUp();
+
+        assertThat(nativeCache.estimatedSize()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void latestTasksCache_shouldExpireEntriesAfterTtl() throws InterruptedException {
+        GenerationalCache cache = new CacheConfig().latestTasksCache(10, 1);
+
+        cache.put(5, List.of());
+        Thread.sleep(20);
+
+        assertThat(cache.get(5)).isNull();
+    }
+
+    @Test
+    void clear_shouldMoveToANewGeneration() {
+        GenerationalCache cache = new CacheConfig().latestTasksCache(10, 60_000);
+        long before = cache.generation();
+
+        cache.clear();
+
+        assertThat(cache.generation()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void cacheManager_shouldServeTheGenerationalCache() {
+        CacheConfig config = new CacheConfig();
+        GenerationalCache cache = config.latestTasksCache(10, 60_000);
+
+        CacheManager cacheManager = config.cacheManager(cache, "");
+        ((SimpleCacheManager) cacheManager).afterPropertiesSet();
+
+        assertThat(cacheManager.getCache(CacheConfig.LATEST_TASKS_CACHE)).isSameAs(cache);
+    }
+
+    @Test
+    void cacheManager_withCacheTypeNone_shouldNotCache() {
+        CacheConfig config = new CacheConfig();
+
+        CacheManager cacheManager = config.cacheManager(config.latestTasksCache(10, 60_000), "none");
+        org.springframework.cache.Cache cache = cacheManager.getCache(CacheConfig.LATEST_TASKS_CACHE);
+        cache.put(5, List.of());
+
+        assertThat(cache.get(5)).isNull();
+    }
+}
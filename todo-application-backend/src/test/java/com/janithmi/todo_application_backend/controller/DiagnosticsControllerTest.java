@@ -0,0 +1,89 @@
+package com.janithmi.todo_application_backend.controller;
+
+import com.janithmi.todo_application_backend.dto.QueryPlanResponse;
+import com.janithmi.todo_application_backend.dto.QueryStatsResponse;
+import com.janithmi.todo_application_backend.monitoring.QueryPlanExplainer;
+import com.janithmi.todo_application_backend.monitoring.QueryStatsRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(DiagnosticsController.class)
+public class DiagnosticsControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private QueryStatsRegistry queryStatsRegistry;
+
+    @MockitoBean
+    private QueryPlanExplainer queryPlanExplainer;
+
+    private final String BASE_URI = "/api/v1/diagnostics";
+
+    @Test
+    void getSlowestQueries_shouldReturnTopShapes() throws Exception {
+        QueryStatsResponse stats = QueryStatsResponse.builder()
+                .sql("select * from task where is_completed = ?")
+                .count(3)
+                .p99Micros(4096)
+                .build();
+        given(queryStatsRegistry.findSlowest(eq(10))).willReturn(List.of(stats));
+
+        mockMvc.perform(get(BASE_URI + "/slowQueries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].p99Micros", is(4096)));
+
+        verify(queryStatsRegistry, times(1)).findSlowest(eq(10));
+    }
+
+    @Test
+    void getSlowestQueries_shouldUseDefaultLimit_WhenLimitIsInvalid() throws Exception {
+        given(queryStatsRegistry.findSlowest(eq(10))).willReturn(List.of());
+
+        mockMvc.perform(get(BASE_URI + "/slowQueries").param("limit", "0"))
+                .andExpect(status().isOk());
+
+        verify(queryStatsRegistry, times(1)).findSlowest(eq(10));
+    }
+
+    @Test
+    void explainQuery_shouldReturnPlanForRecordedShape() throws Exception {
+        String shape = "select * from task where is_completed = ? order by created_at desc limit ?";
+        QueryPlanResponse plan = QueryPlanResponse.builder()
+                .sql(shape)
+                .plan(List.of(Map.of("Extra", "Using where; Using filesort")))
+                .build();
+        given(queryPlanExplainer.explain(eq(shape))).willReturn(Optional.of(plan));
+
+        mockMvc.perform(get(BASE_URI + "/explain").param("sql", shape))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sql", is(shape)))
+                .andExpect(jsonPath("$.plan[0].Extra", is("Using where; Using filesort")));
+    }
+
+    @Test
+    void explainQuery_shouldReturnNotFound_WhenShapeWasNeverRecorded() throws Exception {
+        given(queryPlanExplainer.explain(eq("delete from task"))).willReturn(Optional.empty());
+
+        mockMvc.perform(get(BASE_URI + "/explain").param("sql", "delete from task"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,381 @@
+package com.janithmi.todo_application_backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.janithmi.todo_application_backend.dto.ArchivedTaskResponse;
+import com.janithmi.todo_application_backend.dto.TaskActivityResponse;
+import com.janithmi.todo_application_backend.dto.TaskRequest;
+import com.janithmi.todo_application_backend.dto.TaskResponse;
+import com.janithmi.todo_application_backend.model.ChangeType;
+import com.janithmi.todo_application_backend.scheduler.ReactiveTaskActivityCompactor;
+import com.janithmi.todo_application_backend.scheduler.ReactiveTaskArchiver;
+import com.janithmi.todo_application_backend.scheduler.ReactiveTaskChangeLogCleaner;
+import com.janithmi.todo_application_backend.scheduler.ReactiveTaskPurger;
+import com.janithmi.todo_application_backend.scheduler.TaskArchiver;
+import com.janithmi.todo_application_backend.scheduler.TaskChangeLogPoller;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the WebFlux + R2DBC stack on its own H2 database; there is no JDBC pool or Hibernate in this profile
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.sql.init.mode=always",
+                "spring.sql.init.schema-locations=classpath:reactive-schema.sql"
+        })
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+public class ReactiveTaskControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private final String BASE_URI = "/api/v1/tasks";
+
+    private TaskResponse createTask(String title, List<String> tags) {
+        return webTestClient.post().uri(BASE_URI + "/createTask")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TaskRequest(title, "Description of " + title, tags))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(TaskResponse.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private List<TaskResponse> getRecentTasks(String query) {
+        return webTestClient.get().uri(BASE_URI + "/recentTasks" + query)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponse.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private List<TaskActivityResponse> getActivity(String query) {
+        return webTestClient.get().uri(BASE_URI + "/activity" + query)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskActivityResponse.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private void insertActivity(long id, String occurredAt) {
+        execute("insert into task_activity (id, task_id, activity_type, task_title, occurred_at) values ("
+                + id + ", " + id + ", 'CREATED', 'Task " + id + "', " + occurredAt + ")");
+    }
+
+    private List<Map<String, Object>> queryRows(String sql) {
+        return databaseClient.sql(sql).fetch().all().collectList().block();
+    }
+
+    private void execute(String sql) {
+        databaseClient.sql(sql).then().block();
+    }
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("task_tag", "task_archive_tag", "task", "task_archive", "tag",
+                "task_change_log", "task_activity")) {
+            execute("delete from " + table);
+        }
+    }
+
+    @Test
+    void reactiveProfile_shouldRunMaintenanceJobsWithoutJdbcPool() {
+        assertThat(applicationContext.getBeanNamesForType(DataSource.class)).isEmpty();
+        assertThat(applicationContext.getBeanNamesForType(TaskChangeLogPoller.class)).isEmpty();
+        assertThat(applicationContext.getBeanNamesForType(TaskArchiver.class)).isEmpty();
+        assertThat(applicationContext.getBeanNamesForType(ReactiveTaskArchiver.class)).hasSize(1);
+        assertThat(applicationContext.getBeanNamesForType(ReactiveTaskPurger.class)).hasSize(1);
+        assertThat(applicationContext.getBeanNamesForType(ReactiveTaskActivityCompactor.class)).hasSize(1);
+        assertThat(applicationContext.getBeanNamesForType(ReactiveTaskChangeLogCleaner.class)).hasSize(1);
+    }
+
+    @Test
+    void createTask_shouldPersistTaskTagsAndChangeLog() {
+        TaskResponse created = createTask("Groceries", List.of("Home", "urgent"));
+
+        assertThat(created).isNotNull();
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getTags()).containsExactly("home", "urgent");
+        assertThat(queryRows("select id from task")).extracting(row -> row.get("ID"))
+                .containsExactly(created.getId());
+        assertThat(queryRows("select task_id, change_type from task_change_log"))
+                .containsExactly(Map.of("TASK_ID", created.getId(), "CHANGE_TYPE", "CREATED"));
+    }
+
+    @Test
+    void createTask_withTooLongTag_shouldReturnBadRequestAndWriteNothing() {
+        webTestClient.post().uri(BASE_URI + "/createTask")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TaskRequest("Groceries", "Buy fruits", List.of("x".repeat(65))))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        assertThat(queryRows("select id from task")).isEmpty();
+        assertThat(queryRows("select id from tag")).isEmpty();
+    }
+
+    @Test
+    void recentTasks_shouldReturnActiveTasksNewestFirstWithTags() {
+        createTask("Older", List.of("home"));
+        createTask("Newer", List.of("work"));
+
+        List<TaskResponse> tasks = getRecentTasks("?limit=5");
+
+        assertThat(tasks).extracting(TaskResponse::getTitle).containsExactly("Newer", "Older");
+        assertThat(tasks.get(0).getTags()).containsExactly("work");
+    }
+
+    @Test
+    void recentTasks_shouldStreamAsNdjson() {
+        createTask("First", List.of());
+        createTask("Second", List.of());
+
+        List<TaskResponse> streamed = webTestClient.get().uri(BASE_URI + "/recentTasks")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(TaskResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(streamed).extracting(TaskResponse::getTitle).containsExactly("Second", "First");
+    }
+
+    @Test
+    void recentTasks_shouldEncodeCborWithEpochMillisTimestamps() throws Exception {
+        createTask("First", List.of("home"));
+
+        byte[] body = webTestClient.get().uri(BASE_URI + "/recentTasks")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        JsonNode encoded = Jackson2ObjectMapperBuilder.cbor().build().readTree(body).get(0);
+        assertThat(encoded.get("title").asText()).isEqualTo("First");
+        assertThat(encoded.get("createdAt").isNumber()).isTrue();
+    }
+
+    @Test
+    void createTask_shouldAcceptSmileRequestBody() throws Exception {
+        MediaType smile = new MediaType("application", "x-jackson-smile");
+        byte[] request = Jackson2ObjectMapperBuilder.smile().build()
+                .writeValueAsBytes(new TaskRequest("Groceries", "Buy vegetables and fruits"));
+
+        byte[] body = webTestClient.post().uri(BASE_URI + "/createTask")
+                .contentType(smile)
+                .accept(smile)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().contentTypeCompatibleWith(smile)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        JsonNode encoded = Jackson2ObjectMapperBuilder.smile().build().readTree(body);
+        assertThat(encoded.get("title").asText()).isEqualTo("Groceries");
+        assertThat(encoded.get("createdAt").isNumber()).isTrue();
+    }
+
+    @Test
+    void recentTasks_shouldFilterByTag() {
+        createTask("Clean Kitchen", List.of("home"));
+        createTask("Write Report", List.of("work"));
+
+        List<TaskResponse> tasks = getRecentTasks("?tag=HOME");
+
+        assertThat(tasks).extracting(TaskResponse::getTitle).containsExactly("Clean Kitchen");
+    }
+
+    @Test
+    void completeTask_shouldRemoveTaskFromFeed() {
+        TaskResponse created = createTask("Pay Bills", List.of("home"));
+
+        webTestClient.put().uri(BASE_URI + "/{id}/complete", created.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        assertThat(getRecentTasks("")).isEmpty();
+        assertThat(getRecentTasks("?tag=home")).isEmpty();
+        assertThat(queryRows("select is_completed from task_tag")).containsExactly(Map.of("IS_COMPLETED", true));
+        assertThat(queryRows("select completed_at from task").get(0).get("COMPLETED_AT")).isNotNull();
+        assertThat(queryRows("select activity_type, task_title from task_activity order by id"))
+                .containsExactly(
+                        Map.of("ACTIVITY_TYPE", "CREATED", "TASK_TITLE", "Pay Bills"),
+                        Map.of("ACTIVITY_TYPE", "COMPLETED", "TASK_TITLE", "Pay Bills"));
+    }
+
+    @Test
+    void completeTask_repeated_shouldRecordTheCompletionOnceAndKeepCompletedAt() {
+        TaskResponse created = createTask("Pay Bills", List.of());
+
+        webTestClient.put().uri(BASE_URI + "/{id}/complete", created.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+        execute("update task set completed_at = timestamp with time zone '2025-01-01 00:00:00+00:00'");
+        webTestClient.put().uri(BASE_URI + "/{id}/complete", created.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        // The archive cutoff is measured from the first completion
+        assertThat(queryRows("select year(completed_at) as completed_year from task"))
+                .containsExactly(Map.of("COMPLETED_YEAR", 2025));
+
+        assertThat(queryRows("select activity_type from task_activity order by id"))
+                .extracting(row -> row.get("ACTIVITY_TYPE"))
+                .containsExactly("CREATED", "COMPLETED");
+        assertThat(queryRows("select change_type from task_change_log order by id"))
+                .extracting(row -> row.get("CHANGE_TYPE"))
+                .containsExactly("CREATED", "COMPLETED");
+    }
+
+    @Test
+    void completeTask_unknownId_shouldReturnNotFound() {
+        webTestClient.put().uri(BASE_URI + "/{id}/complete", 999_999L)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void deleteTask_shouldTombstoneTaskAndHideItFromFeed() {
+        TaskResponse created = createTask("Old Errand", List.of("home"));
+
+        webTestClient.delete().uri(BASE_URI + "/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        assertThat(getRecentTasks("")).isEmpty();
+        assertThat(getRecentTasks("?tag=home")).isEmpty();
+        assertThat(queryRows("select deleted_at from task").get(0).get("DELETED_AT")).isNotNull();
+        assertThat(queryRows("select change_type from task_change_log order by id"))
+                .extracting(row -> row.get("CHANGE_TYPE"))
+                .containsExactly("CREATED", "DELETED");
+
+        webTestClient.delete().uri(BASE_URI + "/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void deleteTasks_shouldTombstoneEveryListedTask() {
+        TaskResponse first = createTask("First", List.of());
+        TaskResponse second = createTask("Second", List.of());
+        TaskResponse kept = createTask("Kept", List.of());
+
+        webTestClient.delete().uri(BASE_URI + "?ids={first},{second}", first.getId(), second.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        assertThat(getRecentTasks("")).extracting(TaskResponse::getId).containsExactly(kept.getId());
+    }
+
+    @Test
+    void deleteTasks_shouldRecordChangesOnlyForTasksStillLive() {
+        TaskResponse first = createTask("First", List.of());
+        TaskResponse second = createTask("Second", List.of());
+
+        webTestClient.delete().uri(BASE_URI + "/{id}", first.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.delete().uri(BASE_URI + "?ids={first},{second}", first.getId(), second.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        assertThat(queryRows("select task_id from task_change_log where change_type = 'DELETED' order by id"))
+                .extracting(row -> row.get("TASK_ID"))
+                .containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    void deleteTasks_withTooManyIds_shouldReturnBadRequest() {
+        String ids = LongStream.rangeClosed(1, 501).mapToObj(Long::toString).collect(Collectors.joining(","));
+
+        webTestClient.delete().uri(BASE_URI + "?ids=" + ids)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void archivedTasks_shouldPageNewestFirstWithTags() {
+        execute("insert into tag (id, name) values (900, 'home')");
+        for (long id = 1; id <= 3; id++) {
+            execute("insert into task_archive (id, title, created_at, completed_at, archived_at) values ("
+                    + id + ", 'Archived " + id + "', current_timestamp, current_timestamp, current_timestamp)");
+        }
+        execute("insert into task_archive_tag (task_id, tag_id) values (3, 900)");
+
+        List<ArchivedTaskResponse> firstPage = webTestClient.get().uri(BASE_URI + "/archive?limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ArchivedTaskResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(firstPage).extracting(ArchivedTaskResponse::getId).containsExactly(3L, 2L);
+        assertThat(firstPage.get(0).getTags()).containsExactly("home");
+        assertThat(firstPage.get(1).getTags()).isEmpty();
+    }
+
+    @Test
+    void activity_shouldPageBackwardAndFollowForward() {
+        for (long id = 1; id <= 4; id++) {
+            insertActivity(id, "current_timestamp");
+        }
+
+        assertThat(getActivity("?limit=2")).extracting(TaskActivityResponse::getSequence).containsExactly(4L, 3L);
+        assertThat(getActivity("?beforeSequence=3&limit=2")).extracting(TaskActivityResponse::getSequence)
+                .containsExactly(2L, 1L);
+        assertThat(getActivity("?afterSequence=1&limit=2")).extracting(TaskActivityResponse::getSequence)
+                .containsExactly(2L, 3L);
+        assertThat(getActivity("?afterSequence=1").get(0).getType()).isEqualTo(ChangeType.CREATED);
+    }
+
+    @Test
+    void activity_afterSequence_shouldHoldBackRowsPastAFreshGapOnly() {
+        insertActivity(1, "current_timestamp - interval '1' minute");
+        insertActivity(3, "current_timestamp - interval '1' minute");
+        insertActivity(4, "current_timestamp");
+        insertActivity(6, "current_timestamp");
+
+        assertThat(getActivity("?afterSequence=0")).extracting(TaskActivityResponse::getSequence)
+                .containsExactly(1L, 3L, 4L);
+    }
+
+    @Test
+    void activity_withBothCursors_shouldReturnBadRequest() {
+        webTestClient.get().uri(BASE_URI + "/activity?beforeSequence=5&afterSequence=1")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
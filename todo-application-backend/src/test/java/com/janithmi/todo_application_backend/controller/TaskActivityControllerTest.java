@@ -0,0 +1,83 @@
+package com.janithmi.todo_application_backend.controller;
+
+import com.janithmi.todo_application_backend.dto.TaskActivityResponse;
+import com.janithmi.todo_application_backend.exception.InvalidRequestException;
+import com.janithmi.todo_application_backend.model.ChangeType;
+import com.janithmi.todo_application_backend.service.TaskActivityService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TaskActivityController.class)
+public class TaskActivityControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TaskActivityService taskActivityService;
+
+    private final String BASE_URI = "/api/v1/tasks/activity";
+
+    @Test
+    void getActivityFeed_firstPage_shouldUseDefaultLimit() throws Exception {
+        TaskActivityResponse activity = TaskActivityResponse.builder()
+                .sequence(8L)
+                .taskId(3L)
+                .type(ChangeType.COMPLETED)
+                .title("Pay Bills")
+                .build();
+        given(taskActivityService.getActivityFeed(isNull(), isNull(), eq(20))).willReturn(List.of(activity));
+
+        mockMvc.perform(get(BASE_URI))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].sequence", is(8)))
+                .andExpect(jsonPath("$[0].type", is("COMPLETED")));
+
+        verify(taskActivityService, times(1)).getActivityFeed(isNull(), isNull(), eq(20));
+    }
+
+    @Test
+    void getActivityFeed_shouldPassCursorAndFallBackToDefaultLimitWhenInvalid() throws Exception {
+        given(taskActivityService.getActivityFeed(eq(40L), isNull(), eq(20))).willReturn(List.of());
+
+        mockMvc.perform(get(BASE_URI).param("beforeSequence", "40").param("limit", "0"))
+                .andExpect(status().isOk());
+
+        verify(taskActivityService, times(1)).getActivityFeed(eq(40L), isNull(), eq(20));
+    }
+
+    @Test
+    void getActivityFeed_shouldPassAfterSequenceToFollowTheFeed() throws Exception {
+        given(taskActivityService.getActivityFeed(isNull(), eq(12L), eq(50))).willReturn(List.of());
+
+        mockMvc.perform(get(BASE_URI).param("afterSequence", "12").param("limit", "50"))
+                .andExpect(status().isOk());
+
+        verify(taskActivityService, times(1)).getActivityFeed(isNull(), eq(12L), eq(50));
+    }
+
+    @Test
+    void getActivityFeed_withBothCursors_shouldReturnBadRequest() throws Exception {
+        given(taskActivityService.getActivityFeed(eq(40L), eq(12L), eq(20)))
+                .willThrow(new InvalidRequestException("Pass either beforeSequence or afterSequence, not both"));
+
+        mockMvc.perform(get(BASE_URI).param("beforeSequence", "40").param("afterSequence", "12"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,56 @@
+package com.janithmi.todo_application_backend.controller;
+
+import com.janithmi.todo_application_backend.dto.ArchivedTaskResponse;
+import com.janithmi.todo_application_backend.service.TaskArchiveService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TaskArchiveController.class)
+public class TaskArchiveControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TaskArchiveService taskArchiveService;
+
+    private final String BASE_URI = "/api/v1/tasks/archive";
+
+    @Test
+    void getArchivedTasks_firstPage_shouldUseDefaultLimit() throws Exception {
+        ArchivedTaskResponse archived = ArchivedTaskResponse.builder().id(3L).title("Old Chore").build();
+        given(taskArchiveService.getArchivedTasks(isNull(), eq(20))).willReturn(List.of(archived));
+
+        mockMvc.perform(get(BASE_URI))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title", is("Old Chore")));
+
+        verify(taskArchiveService, times(1)).getArchivedTasks(isNull(), eq(20));
+    }
+
+    @Test
+    void getArchivedTasks_shouldPassCursorAndLimit() throws Exception {
+        given(taskArchiveService.getArchivedTasks(eq(40L), eq(5))).willReturn(List.of());
+
+        mockMvc.perform(get(BASE_URI).param("beforeId", "40").param("limit", "5"))
+                .andExpect(status().isOk());
+
+        verify(taskArchiveService, times(1)).getArchivedTasks(eq(40L), eq(5));
+    }
+}
@@ -1,23 +1,29 @@
 package com.janithmi.todo_application_backend.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.janithmi.todo_application_backend.dto.TaskRequest;
 import com.janithmi.todo_application_backend.dto.TaskResponse;
+import com.janithmi.todo_application_backend.exception.InvalidRequestException;
 import com.janithmi.todo_application_backend.exception.TaskNotFoundException;
 import com.janithmi.todo_application_backend.service.TaskService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.ZonedDateTime;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -35,6 +41,12 @@ public class TaskControllerTest {
     @Autowired
     private ObjectMapper objectMapper; // Helper for JSON serialization/deserialization
 
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
     @MockitoBean
     private TaskService taskService; // Mocks the service dependency
 
@@ -71,6 +83,18 @@ public class TaskControllerTest {
         verify(taskService, times(1)).createTask(any(TaskRequest.class));
     }
 
+    @Test
+    void createTask_shouldReturnBadRequest_WhenTagIsTooLong() throws Exception {
+        given(taskService.createTask(any(TaskRequest.class)))
+                .willThrow(new InvalidRequestException("Tag names must be at most 64 characters"));
+
+        mockMvc.perform(post(BASE_URI + "/createTask")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new TaskRequest("Groceries", "Buy fruits", List.of("x".repeat(65))))))
+                .andExpect(status().isBadRequest());
+    }
+
     // -------------------------------------------------------------------
     // 2. getLatestTasks Tests (GET /api/v1/tasks/recentTasks)
     // -------------------------------------------------------------------
@@ -126,6 +150,76 @@ public class TaskControllerTest {
         verify(taskService, times(2)).getLatestTasksActivities(eq(defaultLimit));
     }
 
+    @Test
+    void getLatestTasks_shouldCapLimit_BeforeItReachesTheCacheKey() throws Exception {
+        given(taskService.getLatestTasksActivities(eq(100))).willReturn(List.of());
+
+        mockMvc.perform(get(BASE_URI + "/recentTasks").param("limit", "1000000"))
+                .andExpect(status().isOk());
+
+        verify(taskService, times(1)).getLatestTasksActivities(eq(100));
+    }
+
+    @Test
+    void getLatestTasks_shouldFilterByTag_WhenTagProvided() throws Exception {
+        // Arrange
+        TaskResponse tagged = createMockResponse();
+        tagged.setTags(List.of("home"));
+
+        given(taskService.getLatestTasksActivitiesByTag(eq(5), eq("home"))).willReturn(List.of(tagged));
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URI + "/recentTasks").param("tag", "home"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].tags[0]", is("home")));
+
+        verify(taskService, times(1)).getLatestTasksActivitiesByTag(eq(5), eq("home"));
+        verify(taskService, never()).getLatestTasksActivities(anyInt());
+    }
+
+    @Test
+    void getLatestTasks_shouldEncodeCborWithEpochMillis_WhenRequested() throws Exception {
+        // Arrange
+        ZonedDateTime createdAt = ZonedDateTime.parse("2025-01-01T10:15:30.123Z");
+        TaskResponse task = createMockResponse();
+        task.setCreatedAt(createdAt);
+
+        given(taskService.getLatestTasksActivities(eq(5))).willReturn(List.of(task));
+
+        // Act
+        byte[] body = mockMvc.perform(get(BASE_URI + "/recentTasks").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        ObjectMapper cborMapper = cborConverter.getObjectMapper();
+        JsonNode encoded = cborMapper.readTree(body).get(0);
+        assertThat(encoded.get("createdAt").isNumber()).isTrue();
+        assertThat(encoded.get("createdAt").asLong()).isEqualTo(createdAt.toInstant().toEpochMilli());
+
+        TaskResponse[] decoded = cborMapper.readValue(body, TaskResponse[].class);
+        assertThat(decoded).hasSize(1);
+        assertThat(decoded[0].getTitle()).isEqualTo("Groceries");
+        assertThat(decoded[0].getCreatedAt().toInstant()).isEqualTo(createdAt.toInstant());
+    }
+
+    @Test
+    void createTask_shouldAcceptSmileRequestBody() throws Exception {
+        MediaType smile = new MediaType("application", "x-jackson-smile");
+        given(taskService.createTask(any(TaskRequest.class))).willReturn(createMockResponse());
+
+        mockMvc.perform(post(BASE_URI + "/createTask")
+                        .contentType(smile)
+                        .accept(smile)
+                        .content(smileConverter.getObjectMapper().writeValueAsBytes(createMockRequest())))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(smile));
+
+        verify(taskService, times(1)).createTask(eq(createMockRequest()));
+    }
+
     // -------------------------------------------------------------------
     // 3. completeTask Tests (PUT /api/v1/tasks/{id}/complete)
     // -------------------------------------------------------------------
@@ -163,6 +257,50 @@ public class TaskControllerTest {
         verify(taskService, times(1)).completeTask(eq(invalidId));
     }
 
+    // -------------------------------------------------------------------
+    // 4. deleteTask Tests (DELETE /api/v1/tasks/{id}, DELETE /api/v1/tasks?ids=)
+    // -------------------------------------------------------------------
+
+    @Test
+    void deleteTask_shouldReturnNoContentStatus_OnSuccess() throws Exception {
+        final Long taskId = 10L;
+
+        doNothing().when(taskService).deleteTask(eq(taskId));
+
+        mockMvc.perform(delete(BASE_URI + "/{id}", taskId))
+                .andExpect(status().isNoContent())
+                .andExpect(content().string(""));
+
+        verify(taskService, times(1)).deleteTask(eq(taskId));
+    }
+
+    @Test
+    void deleteTask_shouldReturnNotFoundStatus_WhenTaskDoesNotExist() throws Exception {
+        final Long invalidId = 999L;
+
+        doThrow(new TaskNotFoundException("Task not found with id: " + invalidId))
+                .when(taskService).deleteTask(eq(invalidId));
+
+        mockMvc.perform(delete(BASE_URI + "/{id}", invalidId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deleteTasks_shouldPassAllIdsToServiceInOneCall() throws Exception {
+        given(taskService.deleteTasks(eq(List.of(1L, 2L, 3L)))).willReturn(3);
+
+        mockMvc.perform(delete(BASE_URI).param("ids", "1,2,3"))
+                .andExpect(status().isNoContent());
 
+        verify(taskService, times(1)).deleteTasks(eq(List.of(1L, 2L, 3L)));
+    }
 
+    @Test
+    void deleteTasks_shouldReturnBadRequest_WhenTooManyIds() throws Exception {
+        given(taskService.deleteTasks(any()))
+                .willThrow(new InvalidRequestException("At most 500 ids can be deleted per request"));
+
+        mockMvc.perform(delete(BASE_URI).param("ids", "1,2,3"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,120 @@
+package com.janithmi.todo_application_backend.controller;
+
+import com.janithmi.todo_application_backend.dto.TaskRequest;
+import com.janithmi.todo_application_backend.repository.TaskRepository;
+import com.janithmi.todo_application_backend.repository.TaskTagRepository;
+import com.janithmi.todo_application_backend.service.TaskService;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Counts the SQL statements one /recentTasks request issues to catch N+1 loading of tags
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+public class TaskQueryCountIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTagRepository taskTagRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final AtomicLong statementCount = new AtomicLong();
+    private final String BASE_URI = "/api/v1/tasks";
+
+    // MockMvc runs the request on the test thread, so background pollers are not counted
+    private final Thread testThread = Thread.currentThread();
+    private final QueryExecutionListener statementCounter = new QueryExecutionListener() {
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (Thread.currentThread() == testThread) {
+                statementCount.addAndGet(queryInfoList.size());
+            }
+        }
+    };
+
+    private ChainListener proxyListeners() {
+        return ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener();
+    }
+
+    private long countStatements(MockHttpServletRequestBuilder request, int expectedSize) throws Exception {
+        statementCount.set(0);
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(expectedSize)))
+                .andExpect(jsonPath("$[0].tags", hasSize(2)));
+        return statementCount.get();
+    }
+
+    @BeforeEach
+    void setUp() {
+        taskTagRepository.deleteAllInBatch();
+        taskRepository.deleteAll();
+        for (int i = 0; i < 25; i++) {
+            taskService.createTask(new TaskRequest("Task " + i, "Description " + i, List.of("home", "urgent")));
+        }
+        proxyListeners().addListener(statementCounter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        proxyListeners().getListeners().remove(statementCounter);
+        taskTagRepository.deleteAllInBatch();
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void recentTasks_statementCountShouldNotDependOnPageSize() throws Exception {
+        long smallPage = countStatements(get(BASE_URI + "/recentTasks").param("limit", "2"), 2);
+        long largePage = countStatements(get(BASE_URI + "/recentTasks").param("limit", "20"), 20);
+
+        assertThat(smallPage).isEqualTo(2); // page query + one tag query
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    @Test
+    void recentTasksByTag_statementCountShouldNotDependOnPageSize() throws Exception {
+        long smallPage = countStatements(
+                get(BASE_URI + "/recentTasks").param("tag", "home").param("limit", "2"), 2);
+        long largePage = countStatements(
+                get(BASE_URI + "/recentTasks").param("tag", "home").param("limit", "20"), 20);
+
+        assertThat(smallPage).isEqualTo(2);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+}
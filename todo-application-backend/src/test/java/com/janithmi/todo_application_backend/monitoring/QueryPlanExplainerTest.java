@@ -0,0 +1,94 @@
+package com.janithmi.todo_application_backend.monitoring;
+
+import com.janithmi.todo_application_backend.dto.QueryPlanResponse;
+import com.janithmi.todo_application_backend.dto.QueryStatsResponse;
+import com.janithmi.todo_application_backend.dto.TaskRequest;
+import com.janithmi.todo_application_backend.repository.TaskRepository;
+import com.janithmi.todo_application_backend.repository.TaskTagRepository;
+import com.janithmi.todo_application_backend.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Explains the shapes the feed really issued against the H2 test database
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class QueryPlanExplainerTest {
+
+    @Autowired
+    private QueryPlanExplainer queryPlanExplainer;
+
+    @Autowired
+    private QueryStatsRegistry queryStatsRegistry;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTagRepository taskTagRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskTagRepository.deleteAllInBatch();
+        taskRepository.deleteAll();
+        taskService.createTask(new TaskRequest("Groceries", "Buy vegetables", List.of("home")));
+        queryStatsRegistry.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskTagRepository.deleteAllInBatch();
+        taskRepository.deleteAll();
+    }
+
+    private String recordedShape(String prefix) {
+        return queryStatsRegistry.findSlowest(100).stream()
+                .map(QueryStatsResponse::getSql)
+                .filter(sql -> sql.startsWith(prefix))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void explain_shouldReturnPlanOfRecordedFeedQuery() {
+        taskService.getLatestTasksActivities(5);
+        String shape = recordedShape("select");
+
+        QueryPlanResponse response = queryPlanExplainer.explain(shape).orElseThrow();
+
+        assertThat(response.getSql()).isEqualTo(shape);
+        assertThat(response.getPlan()).isNotEmpty();
+        assertThat(queryPlanExplainer.explain(shape).orElseThrow().getPlan()).isSameAs(response.getPlan());
+    }
+
+    @Test
+    void explain_tagFeedShouldFilterAndOrderInTheTaskTagFeedIndex() {
+        taskService.getLatestTasksActivitiesByTag(5, "home");
+        String shape = recordedShape("select");
+
+        QueryPlanResponse response = queryPlanExplainer.explain(shape).orElseThrow();
+
+        // Tag by its unique name, then the task_tag copies in index order, then only the page's task rows
+        assertThat(response.getPlan().toString())
+                .contains("IDX_TASK_TAG_FEED: DELETED_AT IS NULL")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    void explain_shouldRejectUnknownAndNonSelectShapes() {
+        taskService.createTask(new TaskRequest("Laundry", "Wash clothes"));
+
+        assertThat(queryPlanExplainer.explain("select * from nowhere")).isEmpty();
+        assertThat(queryPlanExplainer.explain(recordedShape("insert"))).isEmpty();
+    }
+}
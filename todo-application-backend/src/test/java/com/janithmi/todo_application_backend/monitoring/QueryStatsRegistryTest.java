@@ -0,0 +1,100 @@
+package com.janithmi.todo_application_backend.monitoring;
+
+import com.janithmi.todo_application_backend.dto.QueryStatsResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryStatsRegistryTest {
+
+    private final QueryStatsRegistry registry = new QueryStatsRegistry();
+
+    @Test
+    void record_sameShape_shouldShareOneHistogram() {
+        registry.record("select * from task where id = 1", 100);
+        registry.record("select * from task where id = 2", 300);
+
+        List<QueryStatsResponse> stats = registry.findSlowest(10);
+
+        assertThat(stats).hasSize(1);
+        assertThat(stats.get(0).getSql()).isEqualTo("select * from task where id = ?");
+        assertThat(stats.get(0).getCount()).isEqualTo(2);
+        assertThat(stats.get(0).getMeanMicros()).isEqualTo(200);
+        assertThat(stats.get(0).getMaxMicros()).isEqualTo(300);
+        assertThat(registry.getStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findSlowest_shouldOrderByP99AndRespectLimit() {
+        registry.record("select 'fast'", 10);
+        registry.record("update task set is_completed = true", 5_000);
+        registry.record("select * from task order by created_at", 50_000);
+
+        List<QueryStatsResponse> stats = registry.findSlowest(2);
+
+        assertThat(stats).hasSize(2);
+        assertThat(stats.get(0).getSql()).isEqualTo("select * from task order by created_at");
+        assertThat(stats.get(1).getSql()).isEqualTo("update task set is_completed = true");
+        assertThat(stats.get(0).getP99Micros()).isGreaterThan(stats.get(1).getP99Micros());
+    }
+
+    @Test
+    void record_beyondShapeCap_shouldFoldIntoOverflowShape() {
+        ReflectionTestUtils.setField(registry, "maxShapes", 1);
+
+        registry.record("select 1 from task", 10);
+        registry.record("select 1 from tag", 20);
+
+        assertThat(registry.findSlowest(10))
+                .extracting(QueryStatsResponse::getSql)
+                .containsExactlyInAnyOrder("select ? from task", QueryStatsRegistry.OVERFLOW_SHAPE);
+    }
+
+    @Test
+    void findSample_shouldKeepFirstExecutionOfEachShape() {
+        registry.record("select * from task where id = ?", () -> List.of(7L), 100);
+        registry.record("select * from task where id = ?", () -> List.of(9L), 100);
+
+        QuerySample sample = registry.findSample("select * from task where id = ?").orElseThrow();
+
+        assertThat(sample.getSql()).isEqualTo("select * from task where id = ?");
+        assertThat(sample.getParameters()).containsExactly(7L);
+        assertThat(registry.findSample("select * from tag")).isEmpty();
+    }
+
+    @Test
+    void findSample_overflowShape_shouldBeEmpty() {
+        ReflectionTestUtils.setField(registry, "maxShapes", 1);
+
+        registry.record("select 1 from task", 10);
+        registry.record("select 1 from tag", 20);
+
+        assertThat(registry.findSample(QueryStatsRegistry.OVERFLOW_SHAPE)).isEmpty();
+    }
+
+    @Test
+    void reset_shouldClearShapesAndStatementCount() {
+        registry.record("select * from task where id = 1", 100);
+
+        registry.reset();
+
+        assertThat(registry.findSlowest(10)).isEmpty();
+        assertThat(registry.getStatementCount()).isZero();
+    }
+
+    @Test
+    void percentile_shouldReportBucketUpperBound() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(3);
+        }
+        histogram.record(1_000);
+
+        assertThat(histogram.percentileMicros(0.50)).isEqualTo(4);
+        assertThat(histogram.percentileMicros(0.99)).isEqualTo(4);
+        assertThat(histogram.percentileMicros(1.0)).isEqualTo(1_000);
+    }
+}
@@ -0,0 +1,39 @@
+package com.janithmi.todo_application_backend.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlNormalizerTest {
+
+    @Test
+    void normalize_shouldReplaceLiteralsAndCollapseWhitespace() {
+        String sql = "select *\n  from task t1_0\n where t1_0.title = 'it''s' and t1_0.id = 42";
+
+        assertThat(SqlNormalizer.normalize(sql))
+                .isEqualTo("select * from task t1_0 where t1_0.title = ? and t1_0.id = ?");
+    }
+
+    @Test
+    void normalize_shouldCollapseInListsOfAnyLength() {
+        String two = SqlNormalizer.normalize("delete from task where id in (?, ?)");
+        String five = SqlNormalizer.normalize("delete from task where id IN (?,?,?,?,?)");
+
+        assertThat(two).isEqualTo("delete from task where id in (?)");
+        assertThat(five).isEqualTo(two);
+    }
+
+    @Test
+    void normalize_shouldKeepPlaceholdersAndAliases() {
+        String sql = "select t1_0.id from task t1_0 where t1_0.is_completed=? order by t1_0.created_at desc limit ?";
+
+        assertThat(SqlNormalizer.normalize(sql)).isEqualTo(sql);
+    }
+
+    @Test
+    void normalize_shouldReuseShapeForRepeatedStatement() {
+        String sql = "select t1_0.id from task t1_0 where t1_0.id = 42";
+
+        assertThat(SqlNormalizer.normalize(sql)).isSameAs(SqlNormalizer.normalize(sql));
+    }
+}
@@ -0,0 +1,97 @@
+package com.janithmi.todo_application_backend.repository;
+
+import com.janithmi.todo_application_backend.model.ChangeType;
+import com.janithmi.todo_application_backend.model.TaskActivity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+@DataJpaTest
+public class TaskActivityRepositoryTest {
+
+    @Autowired
+    private TaskActivityRepository taskActivityRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private TaskActivity saveActivity(Long taskId, ChangeType type) {
+        return taskActivityRepository.saveAndFlush(TaskActivity.builder()
+                .taskId(taskId)
+                .activityType(type)
+                .taskTitle("Task " + taskId)
+                .build());
+    }
+
+    // occurred_at is set on insert, so old entries are back-dated directly
+    private void backdate(TaskActivity activity, ZonedDateTime occurredAt) {
+        entityManager.createQuery("update TaskActivity a set a.occurredAt = :occurredAt where a.id = :id")
+                .setParameter("occurredAt", occurredAt)
+                .setParameter("id", activity.getId())
+                .executeUpdate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        taskActivityRepository.deleteAll();
+    }
+
+    @Test
+    void findActivitiesBefore_shouldPageNewestFirstBySequence() {
+        List<Long> ids = new ArrayList<>();
+        for (long taskId = 1; taskId <= 5; taskId++) {
+            ids.add(saveActivity(taskId, ChangeType.CREATED).getId());
+        }
+
+        List<TaskActivity> firstPage = taskActivityRepository.findActivitiesBefore(Long.MAX_VALUE, PageRequest.of(0, 2));
+        List<TaskActivity> secondPage = taskActivityRepository.findActivitiesBefore(
+                firstPage.get(firstPage.size() - 1).getId(), PageRequest.of(0, 2));
+
+        assertThat(firstPage).extracting(TaskActivity::getId).containsExactly(ids.get(4), ids.get(3));
+        assertThat(secondPage).extracting(TaskActivity::getId).containsExactly(ids.get(2), ids.get(1));
+    }
+
+    @Test
+    void findActivitiesAfter_shouldPageOldestFirstFromCursor() {
+        List<Long> ids = new ArrayList<>();
+        for (long taskId = 1; taskId <= 5; taskId++) {
+            ids.add(saveActivity(taskId, ChangeType.CREATED).getId());
+        }
+
+        List<TaskActivity> page = taskActivityRepository.findActivitiesAfter(ids.get(1), PageRequest.of(0, 2));
+
+        assertThat(page).extracting(TaskActivity::getId).containsExactly(ids.get(2), ids.get(3));
+    }
+
+    @Test
+    void compactionStatements_shouldOnlyRemoveEntriesOlderThanCutoff() {
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime cutoff = now.minusDays(90);
+
+        TaskActivity oldest = saveActivity(1L, ChangeType.CREATED);
+        TaskActivity recent = saveActivity(1L, ChangeType.COMPLETED);
+        TaskActivity old = saveActivity(2L, ChangeType.CREATED);
+        backdate(oldest, now.minusDays(120));
+        backdate(old, now.minusDays(100));
+        entityManager.clear();
+
+        List<Long> ids = taskActivityRepository.findCompactableIds(cutoff, PageRequest.of(0, 10));
+        assertThat(ids).containsExactly(oldest.getId(), old.getId());
+
+        // The range spans the recent entry too; the occurred_at predicate keeps it
+        assertThat(taskActivityRepository.deleteCompactableActivities(ids.get(0), ids.get(1), cutoff)).isEqualTo(2);
+        entityManager.clear();
+
+        assertThat(taskActivityRepository.findAll()).extracting(TaskActivity::getId).containsExactly(recent.getId());
+    }
+}
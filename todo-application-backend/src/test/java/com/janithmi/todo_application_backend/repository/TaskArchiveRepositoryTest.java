@@ -0,0 +1,114 @@
+package com.janithmi.todo_application_backend.repository;
+
+import com.janithmi.todo_application_backend.model.Tag;
+import com.janithmi.todo_application_backend.model.Task;
+import com.janithmi.todo_application_backend.model.TaskArchive;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+@DataJpaTest
+public class TaskArchiveRepositoryTest {
+
+    @Autowired
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Task saveTask(String title, boolean isCompleted, ZonedDateTime completedAt, Tag... tags) {
+        Task task = Task.builder()
+                .title(title)
+                .isCompleted(isCompleted)
+                .completedAt(completedAt)
+                .build();
+        Task saved = taskRepository.saveAndFlush(task);
+        taskRepository.insertTaskTags(saved.getId(), Stream.of(tags).map(Tag::getId).toList());
+        return saved;
+    }
+
+    @Test
+    void archiveStatements_shouldMoveOnlyTasksCompletedBeforeCutoff() {
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime cutoff = now.minusDays(30);
+        Tag home = tagRepository.saveAndFlush(Tag.builder().name("home").build());
+
+        Task old = saveTask("Old Chore", true, now.minusDays(40), home);
+        Task recent = saveTask("Recent Chore", true, now.minusDays(2), home);
+        Task active = saveTask("Open Chore", false, null, home);
+
+        List<Long> ids = taskRepository.findArchivableTaskIds(cutoff, PageRequest.of(0, 10));
+        assertThat(ids).containsExactly(old.getId());
+
+        Long fromId = ids.get(0);
+        Long toId = ids.get(ids.size() - 1);
+        assertThat(taskArchiveRepository.copyTasks(fromId, toId, cutoff, now)).isEqualTo(1);
+        assertThat(taskArchiveRepository.copyTaskTags(fromId, toId)).isEqualTo(1);
+        assertThat(taskArchiveRepository.deleteArchivedTaskTags(fromId, toId)).isEqualTo(1);
+        assertThat(taskArchiveRepository.deleteArchivedTasks(fromId, toId)).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(taskRepository.findById(old.getId())).isEmpty();
+        assertThat(taskRepository.findById(recent.getId())).isPresent();
+        assertThat(taskRepository.findById(active.getId())).isPresent();
+
+        TaskArchive archived = taskArchiveRepository.findById(old.getId()).orElseThrow();
+        assertThat(archived.getTitle()).isEqualTo("Old Chore");
+        assertThat(taskArchiveRepository.findTagNamesByTaskIds(List.of(old.getId())))
+                .extracting(TaskTagName::getTagName)
+                .containsExactly("home");
+    }
+
+    @Test
+    void archiveStatements_idRangeShouldSkipTasksThatAreNotArchivable() {
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime cutoff = now.minusDays(30);
+
+        Task first = saveTask("First", true, now.minusDays(50));
+        Task between = saveTask("Still Open", false, null);
+        Task last = saveTask("Last", true, now.minusDays(45));
+
+        assertThat(taskArchiveRepository.copyTasks(first.getId(), last.getId(), cutoff, now)).isEqualTo(2);
+        assertThat(taskArchiveRepository.deleteArchivedTasks(first.getId(), last.getId())).isEqualTo(2);
+        entityManager.clear();
+
+        assertThat(taskRepository.findById(between.getId())).isPresent();
+        assertThat(taskArchiveRepository.findById(between.getId())).isEmpty();
+    }
+
+    @Test
+    void findArchivedBefore_shouldPageNewestFirst() {
+        ZonedDateTime now = ZonedDateTime.now();
+        for (long id = 1; id <= 5; id++) {
+            taskArchiveRepository.save(TaskArchive.builder()
+                    .id(id)
+                    .title("Archived " + id)
+                    .createdAt(now.minusDays(60))
+                    .completedAt(now.minusDays(40))
+                    .archivedAt(now)
+                    .build());
+        }
+
+        List<TaskArchive> firstPage = taskArchiveRepository.findArchivedBefore(Long.MAX_VALUE, PageRequest.of(0, 2));
+        List<TaskArchive> secondPage = taskArchiveRepository.findArchivedBefore(
+                firstPage.get(firstPage.size() - 1).getId(), PageRequest.of(0, 2));
+
+        assertThat(firstPage).extracting(TaskArchive::getId).containsExactly(5L, 4L);
+        assertThat(secondPage).extracting(TaskArchive::getId).containsExactly(3L, 2L);
+    }
+}
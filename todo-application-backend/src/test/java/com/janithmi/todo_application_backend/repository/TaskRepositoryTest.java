@@ -1,6 +1,8 @@
 package com.janithmi.todo_application_backend.repository;
 
+import com.janithmi.todo_application_backend.model.Tag;
 import com.janithmi.todo_application_backend.model.Task;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,8 +12,10 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 
 @DataJpaTest
@@ -20,6 +24,15 @@ public class TaskRepositoryTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskTagRepository taskTagRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private Task saveTask(String title, boolean isCompleted, ZonedDateTime createdAt) {
         Task task = Task.builder()
                 .title(title)
@@ -29,8 +42,19 @@ public class TaskRepositoryTest {
         return taskRepository.save(task);
     }
 
+    private Task saveTask(String title, boolean isCompleted, ZonedDateTime createdAt, Tag... tags) {
+        Task task = saveTask(title, isCompleted, createdAt);
+        taskRepository.insertTaskTags(task.getId(), Stream.of(tags).map(Tag::getId).toList());
+        return task;
+    }
+
+    private Tag saveTag(String name) {
+        return tagRepository.save(Tag.builder().name(name).build());
+    }
+
     @BeforeEach
     void setUp() {
+        taskTagRepository.deleteAllInBatch();
         taskRepository.deleteAll();
     }
 
@@ -110,4 +134,118 @@ public class TaskRepositoryTest {
 
         assertThat(result).isNotNull().isEmpty();
     }
+
+    @Test
+    void findLatestActiveTasksByTag_shouldOnlyReturnActiveTasksWithTag() {
+        ZonedDateTime now = ZonedDateTime.now();
+        Tag home = saveTag("home");
+        Tag work = saveTag("work");
+
+        saveTask("Clean Kitchen", false, now.minusDays(2), home);
+        saveTask("Write Report", false, now.minusDays(1), work);
+        saveTask("Fix Sink", true, now.minusHours(5), home); // completed, excluded
+        saveTask("Buy Plants", false, now.minusHours(1), home, work);
+
+        List<Task> result = taskRepository.findLatestActiveTasksByTag("home", PageRequest.of(0, 5));
+
+        assertThat(result).extracting(Task::getTitle).containsExactly("Buy Plants", "Clean Kitchen");
+    }
+
+    @Test
+    void findLatestActiveTasksByTag_shouldDropTasksOnceTheirTagCopiesAreCompleted() {
+        ZonedDateTime now = ZonedDateTime.now();
+        Tag home = saveTag("home");
+
+        Task open = saveTask("Clean Kitchen", false, now.minusDays(2), home);
+        Task completed = saveTask("Fix Sink", false, now.minusDays(1), home);
+
+        assertThat(taskRepository.completeTaskTags(completed.getId())).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(taskRepository.findLatestActiveTasksByTag("home", PageRequest.of(0, 5)))
+                .extracting(Task::getId).containsExactly(open.getId());
+    }
+
+    @Test
+    void findTagNamesByTaskIds_shouldReturnTagsForWholePage() {
+        ZonedDateTime now = ZonedDateTime.now();
+        Tag home = saveTag("home");
+        Tag work = saveTag("work");
+
+        Task first = saveTask("Buy Plants", false, now.minusHours(1), home, work);
+        Task second = saveTask("Write Report", false, now.minusHours(2), work);
+        Task untagged = saveTask("Call Client", false, now.minusHours(3));
+
+        List<TaskTagName> result = taskRepository.findTagNamesByTaskIds(
+                List.of(first.getId(), second.getId(), untagged.getId()));
+
+        assertThat(result)
+                .extracting(TaskTagName::getTaskId, TaskTagName::getTagName)
+                .containsExactlyInAnyOrder(
+                        tuple(first.getId(), "home"),
+                        tuple(first.getId(), "work"),
+                        tuple(second.getId(), "work"));
+    }
+
+    @Test
+    void softDeleteByIds_shouldHideTasksFromFeedsAndSkipExistingTombstones() {
+        ZonedDateTime now = ZonedDateTime.now();
+        Tag home = saveTag("home");
+
+        Task kept = saveTask("Buy Milk", false, now.minusDays(2), home);
+        Task deleted = saveTask("Call Client", false, now.minusDays(1), home);
+        taskRepository.flush();
+
+        assertThat(taskRepository.softDeleteByIds(List.of(deleted.getId()), now)).isEqualTo(1);
+        assertThat(taskRepository.softDeleteTaskTags(List.of(deleted.getId()), now)).isEqualTo(1);
+        assertThat(taskRepository.softDeleteByIds(List.of(deleted.getId()), now)).isZero();
+        entityManager.clear();
+
+        assertThat(taskRepository.findLatestActiveTasks(PageRequest.of(0, 5)))
+                .extracting(Task::getId).containsExactly(kept.getId());
+        assertThat(taskRepository.findLatestActiveTasksByTag("home", PageRequest.of(0, 5)))
+                .extracting(Task::getId).containsExactly(kept.getId());
+        assertThat(taskRepository.findById(deleted.getId())).get()
+                .extracting(Task::getDeletedAt).isNotNull();
+    }
+
+    @Test
+    void findLiveTasksForUpdate_shouldSkipTombstonesAndUnknownIds() {
+        ZonedDateTime now = ZonedDateTime.now();
+        Task live = saveTask("Buy Milk", false, now.minusDays(2));
+        Task tombstoned = saveTask("Call Client", false, now.minusDays(1));
+        taskRepository.flush();
+        taskRepository.softDeleteByIds(List.of(tombstoned.getId()), now);
+        entityManager.clear();
+
+        assertThat(taskRepository.findLiveTasksForUpdate(List.of(live.getId(), tombstoned.getId(), -1L)))
+                .extracting(Task::getId).containsExactly(live.getId());
+    }
+
+    @Test
+    void purgeStatements_shouldOnlyRemoveTombstonesOlderThanCutoff() {
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime cutoff = now.minusHours(1);
+        Tag home = saveTag("home");
+
+        Task old = saveTask("Old Tombstone", false, now.minusDays(3), home);
+        Task live = saveTask("Still Open", false, now.minusDays(2), home);
+        Task fresh = saveTask("Fresh Tombstone", false, now.minusDays(1), home);
+        taskRepository.flush();
+        taskRepository.softDeleteByIds(List.of(old.getId()), now.minusHours(5));
+        taskRepository.softDeleteByIds(List.of(fresh.getId()), now);
+
+        List<Long> ids = taskRepository.findPurgeableTaskIds(cutoff, PageRequest.of(0, 10));
+        assertThat(ids).containsExactly(old.getId());
+
+        // The range spans the live and fresh rows too; the deleted_at predicate keeps them
+        assertThat(taskRepository.deletePurgeableTaskTags(old.getId(), fresh.getId(), cutoff)).isEqualTo(1);
+        assertThat(taskRepository.deletePurgeableTasks(old.getId(), fresh.getId(), cutoff)).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(taskRepository.findById(old.getId())).isEmpty();
+        assertThat(taskRepository.findById(live.getId())).isPresent();
+        assertThat(taskRepository.findById(fresh.getId())).isPresent();
+        assertThat(taskRepository.findTagNamesByTaskIds(List.of(live.getId(), fresh.getId()))).hasSize(2);
+    }
 }
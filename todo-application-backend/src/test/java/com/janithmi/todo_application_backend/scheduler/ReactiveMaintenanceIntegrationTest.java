@@ -0,0 +1,142 @@
+package com.janithmi.todo_application_backend.scheduler;
+
+import com.janithmi.todo_application_backend.service.ReactiveSchedulerLockService;
+import com.janithmi.todo_application_backend.service.ReactiveTaskActivityService;
+import com.janithmi.todo_application_backend.service.ReactiveTaskArchiveService;
+import com.janithmi.todo_application_backend.service.ReactiveTaskPurgeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The statements behind the reactive maintenance jobs, so a reactive-only deployment keeps its tables bounded
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.sql.init.mode=always",
+                "spring.sql.init.schema-locations=classpath:reactive-schema.sql"
+        })
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+public class ReactiveMaintenanceIntegrationTest {
+
+    private static final String LONG_AGO = "timestamp with time zone '2025-01-01 00:00:00+00:00'";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ReactiveTaskPurgeService taskPurgeService;
+
+    @Autowired
+    private ReactiveTaskArchiveService taskArchiveService;
+
+    @Autowired
+    private ReactiveTaskActivityService taskActivityService;
+
+    @Autowired
+    private ReactiveSchedulerLockService schedulerLockService;
+
+    @Autowired
+    private ReactiveTaskChangeLogCleaner changeLogCleaner;
+
+    private List<Map<String, Object>> queryRows(String sql) {
+        return databaseClient.sql(sql).fetch().all().collectList().block();
+    }
+
+    private void execute(String sql) {
+        databaseClient.sql(sql).then().block();
+    }
+
+    private void insertTask(long id, boolean completed, String completedAt, String deletedAt) {
+        execute("insert into task (id, title, is_completed, created_at, completed_at, deleted_at) values ("
+                + id + ", 'Task " + id + "', " + completed + ", " + LONG_AGO + ", " + completedAt + ", " + deletedAt + ")");
+        execute("insert into task_tag (task_id, tag_id, is_completed, deleted_at, created_at)"
+                + " select t.id, 900, t.is_completed, t.deleted_at, t.created_at from task t where t.id = " + id);
+    }
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("task_tag", "task_archive_tag", "task", "task_archive", "tag",
+                "task_change_log", "task_activity", "scheduler_lock")) {
+            execute("delete from " + table);
+        }
+        execute("insert into tag (id, name) values (900, 'home')");
+    }
+
+    @Test
+    void purgeBatch_shouldRemoveOnlyTombstonesOlderThanCutoff() {
+        insertTask(1, false, "null", LONG_AGO);
+        insertTask(2, false, "null", "null");
+        insertTask(3, false, "null", "current_timestamp");
+
+        int purged = taskPurgeService.purgeBatch(OffsetDateTime.now().minusHours(1), 10).block();
+
+        assertThat(purged).isEqualTo(1);
+        assertThat(queryRows("select id from task order by id")).extracting(row -> row.get("ID"))
+                .containsExactly(2L, 3L);
+        assertThat(queryRows("select task_id from task_tag order by task_id")).extracting(row -> row.get("TASK_ID"))
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    void archiveBatch_shouldMoveTasksCompletedBeforeCutoffWithTheirTags() {
+        insertTask(1, true, LONG_AGO, "null");
+        insertTask(2, false, "null", "null");
+        insertTask(3, true, "current_timestamp", "null");
+
+        int archived = taskArchiveService.archiveBatch(OffsetDateTime.now().minusDays(30), 10).block();
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(queryRows("select id from task order by id")).extracting(row -> row.get("ID"))
+                .containsExactly(2L, 3L);
+        assertThat(queryRows("select id from task_archive")).extracting(row -> row.get("ID"))
+                .containsExactly(1L);
+        assertThat(queryRows("select task_id, tag_id from task_archive_tag"))
+                .containsExactly(Map.of("TASK_ID", 1L, "TAG_ID", 900L));
+    }
+
+    @Test
+    void compactBatch_shouldDeleteActivityOlderThanCutoff() {
+        execute("insert into task_activity (id, task_id, activity_type, task_title, occurred_at)"
+                + " values (1, 1, 'CREATED', 'Task 1', " + LONG_AGO + ")");
+        execute("insert into task_activity (id, task_id, activity_type, task_title, occurred_at)"
+                + " values (2, 1, 'COMPLETED', 'Task 1', current_timestamp)");
+
+        int compacted = taskActivityService.compactBatch(OffsetDateTime.now().minusDays(90), 10).block();
+
+        assertThat(compacted).isEqualTo(1);
+        assertThat(queryRows("select id from task_activity")).extracting(row -> row.get("ID"))
+                .containsExactly(2L);
+    }
+
+    @Test
+    void purgeExpiredEntries_shouldTrimTheChangeLog() {
+        execute("insert into task_change_log (task_id, change_type, changed_at) values (1, 'CREATED', " + LONG_AGO + ")");
+        execute("insert into task_change_log (task_id, change_type, changed_at) values (1, 'DELETED', current_timestamp)");
+
+        changeLogCleaner.purgeExpiredEntries().block();
+
+        assertThat(queryRows("select change_type from task_change_log")).extracting(row -> row.get("CHANGE_TYPE"))
+                .containsExactly("DELETED");
+    }
+
+    @Test
+    void schedulerLock_shouldGrantOneLeaseAtATime() {
+        assertThat(schedulerLockService.tryAcquire("test-job", Duration.ofMinutes(5)).block()).isTrue();
+        assertThat(schedulerLockService.tryAcquire("test-job", Duration.ofMinutes(5)).block()).isFalse();
+
+        schedulerLockService.release("test-job").block();
+
+        assertThat(schedulerLockService.tryAcquire("test-job", Duration.ofMinutes(5)).block()).isTrue();
+    }
+}
@@ -0,0 +1,65 @@
+package com.janithmi.todo_application_backend.scheduler;
+
+import com.janithmi.todo_application_backend.service.ReactiveSchedulerLockService;
+import com.janithmi.todo_application_backend.service.ReactiveTaskActivityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ReactiveTaskActivityCompactorTest {
+    @Mock
+    private ReactiveTaskActivityService taskActivityService;
+
+    @Mock
+    private ReactiveSchedulerLockService schedulerLockService;
+
+    @InjectMocks
+    private ReactiveTaskActivityCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(compactor, "batchPauseMs", 0L);
+        ReflectionTestUtils.setField(compactor, "batchSize", 2);
+        given(schedulerLockService.tryAcquire(eq(TaskActivityCompactor.LOCK_NAME), any(Duration.class)))
+                .willReturn(Mono.just(true));
+        given(schedulerLockService.release(eq(TaskActivityCompactor.LOCK_NAME))).willReturn(Mono.empty());
+    }
+
+    @Test
+    void compactActivity_shouldRunBatchesUntilOneComesBackShort() {
+        given(taskActivityService.compactBatch(any(OffsetDateTime.class), eq(2)))
+                .willReturn(Mono.just(2), Mono.just(1));
+
+        compactor.compactActivity().block();
+
+        verify(taskActivityService, times(2)).compactBatch(any(OffsetDateTime.class), eq(2));
+        verify(schedulerLockService, times(1)).release(eq(TaskActivityCompactor.LOCK_NAME));
+    }
+
+    @Test
+    void compactActivity_whenAnotherNodeHoldsLease_shouldNotCompact() {
+        given(schedulerLockService.tryAcquire(eq(TaskActivityCompactor.LOCK_NAME), any(Duration.class)))
+                .willReturn(Mono.just(false));
+
+        compactor.compactActivity().block();
+
+        verify(taskActivityService, never()).compactBatch(any(), anyInt());
+        verify(schedulerLockService, never()).release(any());
+    }
+}
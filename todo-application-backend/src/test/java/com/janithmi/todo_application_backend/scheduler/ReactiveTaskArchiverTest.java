@@ -0,0 +1,94 @@
+package com.janithmi.todo_application_backend.scheduler;
+
+import com.janithmi.todo_application_backend.service.ReactiveSchedulerLockService;
+import com.janithmi.todo_application_backend.service.ReactiveTaskArchiveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ReactiveTaskArchiverTest {
+    @Mock
+    private ReactiveTaskArchiveService taskArchiveService;
+
+    @Mock
+    private ReactiveSchedulerLockService schedulerLockService;
+
+    @InjectMocks
+    private ReactiveTaskArchiver taskArchiver;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(taskArchiver, "batchPauseMs", 0L);
+        ReflectionTestUtils.setField(taskArchiver, "batchSize", 2);
+        given(schedulerLockService.tryAcquire(eq(TaskArchiver.LOCK_NAME), any(Duration.class))).willReturn(Mono.just(true));
+        given(schedulerLockService.release(eq(TaskArchiver.LOCK_NAME))).willReturn(Mono.empty());
+    }
+
+    @Test
+    void archiveCompletedTasks_shouldRunBatchesUntilOneComesBackShort() {
+        given(taskArchiveService.archiveBatch(any(OffsetDateTime.class), eq(2)))
+                .willReturn(Mono.just(2), Mono.just(2), Mono.just(0));
+
+        taskArchiver.archiveCompletedTasks().block();
+
+        verify(taskArchiveService, times(3)).archiveBatch(any(OffsetDateTime.class), eq(2));
+        verify(schedulerLockService, times(1)).release(eq(TaskArchiver.LOCK_NAME));
+    }
+
+    @Test
+    void archiveCompletedTasks_shouldStopAtMaxBatchesPerRun() {
+        ReflectionTestUtils.setField(taskArchiver, "maxBatchesPerRun", 3);
+        given(taskArchiveService.archiveBatch(any(OffsetDateTime.class), eq(2))).willReturn(Mono.just(2));
+
+        taskArchiver.archiveCompletedTasks().block();
+
+        verify(taskArchiveService, times(3)).archiveBatch(any(OffsetDateTime.class), eq(2));
+    }
+
+    @Test
+    void archiveCompletedTasks_shouldStopWhenLeaseRunsOut() {
+        ReflectionTestUtils.setField(taskArchiver, "leaseMs", 0L);
+        given(taskArchiveService.archiveBatch(any(OffsetDateTime.class), eq(2))).willReturn(Mono.just(2));
+
+        taskArchiver.archiveCompletedTasks().block();
+
+        verify(taskArchiveService, times(1)).archiveBatch(any(OffsetDateTime.class), eq(2));
+    }
+
+    @Test
+    void archiveCompletedTasks_whenAnotherNodeHoldsLease_shouldNotArchive() {
+        given(schedulerLockService.tryAcquire(eq(TaskArchiver.LOCK_NAME), any(Duration.class))).willReturn(Mono.just(false));
+
+        taskArchiver.archiveCompletedTasks().block();
+
+        verify(taskArchiveService, never()).archiveBatch(any(), anyInt());
+        verify(schedulerLockService, never()).release(any());
+    }
+
+    @Test
+    void archiveCompletedTasks_whenBatchFails_shouldStillReleaseLease() {
+        given(taskArchiveService.archiveBatch(any(OffsetDateTime.class), eq(2)))
+                .willReturn(Mono.error(new IllegalStateException("duplicate key")));
+
+        assertThrows(IllegalStateException.class, () -> taskArchiver.archiveCompletedTasks().block());
+
+        verify(schedulerLockService, times(1)).release(eq(TaskArchiver.LOCK_NAME));
+    }
+}
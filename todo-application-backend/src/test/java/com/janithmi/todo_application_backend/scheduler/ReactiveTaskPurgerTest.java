@@ -0,0 +1,82 @@
+package com.janithmi.todo_application_backend.scheduler;
+
+import com.janithmi.todo_application_backend.service.ReactiveSchedulerLockService;
+import com.janithmi.todo_application_backend.service.ReactiveTaskPurgeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ReactiveTaskPurgerTest {
+    @Mock
+    private ReactiveTaskPurgeService taskPurgeService;
+
+    @Mock
+    private ReactiveSchedulerLockService schedulerLockService;
+
+    @InjectMocks
+    private ReactiveTaskPurger taskPurger;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(taskPurger, "batchPauseMs", 0L);
+        ReflectionTestUtils.setField(taskPurger, "batchSize", 2);
+        given(schedulerLockService.tryAcquire(eq(TaskPurger.LOCK_NAME), any(Duration.class))).willReturn(Mono.just(true));
+        given(schedulerLockService.release(eq(TaskPurger.LOCK_NAME))).willReturn(Mono.empty());
+    }
+
+    private void setWindow(String start, String end) {
+        ReflectionTestUtils.setField(taskPurger, "windowStart", start);
+        ReflectionTestUtils.setField(taskPurger, "windowEnd", end);
+    }
+
+    @Test
+    void purgeDeletedTasks_shouldRunBatchesUntilOneComesBackShort() {
+        setWindow("00:00", "00:00"); // equal bounds mean always open
+        given(taskPurgeService.purgeBatch(any(OffsetDateTime.class), eq(2)))
+                .willReturn(Mono.just(2), Mono.just(2), Mono.just(1));
+
+        taskPurger.purgeDeletedTasks().block();
+
+        verify(taskPurgeService, times(3)).purgeBatch(any(OffsetDateTime.class), eq(2));
+        verify(schedulerLockService, times(1)).release(eq(TaskPurger.LOCK_NAME));
+    }
+
+    @Test
+    void purgeDeletedTasks_whenAnotherNodeHoldsLease_shouldNotPurge() {
+        setWindow("00:00", "00:00");
+        given(schedulerLockService.tryAcquire(eq(TaskPurger.LOCK_NAME), any(Duration.class))).willReturn(Mono.just(false));
+
+        taskPurger.purgeDeletedTasks().block();
+
+        verify(taskPurgeService, never()).purgeBatch(any(), anyInt());
+        verify(schedulerLockService, never()).release(any());
+    }
+
+    @Test
+    void purgeDeletedTasks_outsideWindow_shouldNotPurge() {
+        LocalTime now = LocalTime.now();
+        setWindow(now.plusHours(2).toString(), now.plusHours(3).toString());
+
+        taskPurger.purgeDeletedTasks().block();
+
+        verify(taskPurgeService, never()).purgeBatch(any(), anyInt());
+        verify(schedulerLockService, never()).tryAcquire(any(), any());
+    }
+}
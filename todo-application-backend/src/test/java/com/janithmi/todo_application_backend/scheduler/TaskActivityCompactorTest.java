@@ -0,0 +1,87 @@
+package com.janithmi.todo_application_backend.scheduler;
+
+import com.janithmi.todo_application_backend.service.SchedulerLockService;
+import com.janithmi.todo_application_backend.service.TaskActivityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class TaskActivityCompactorTest {
+    @Mock
+    private TaskActivityService taskActivityService;
+
+    @Mock
+    private SchedulerLockService schedulerLockService;
+
+    @InjectMocks
+    private TaskActivityCompactor taskActivityCompactor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(taskActivityCompactor, "batchPauseMs", 0L);
+        ReflectionTestUtils.setField(taskActivityCompactor, "batchSize", 2);
+        given(schedulerLockService.tryAcquire(eq(TaskActivityCompactor.LOCK_NAME), any(Duration.class)))
+                .willReturn(true);
+    }
+
+    @Test
+    void compactActivity_shouldRunBatchesUntilOneComesBackShort() {
+        given(taskActivityService.compactBatch(any(ZonedDateTime.class), eq(2))).willReturn(2, 1);
+
+        taskActivityCompactor.compactActivity();
+
+        verify(taskActivityService, times(2)).compactBatch(any(ZonedDateTime.class), eq(2));
+        verify(schedulerLockService, times(1)).release(eq(TaskActivityCompactor.LOCK_NAME));
+    }
+
+    @Test
+    void compactActivity_shouldStopAtMaxBatchesPerRun() {
+        ReflectionTestUtils.setField(taskActivityCompactor, "maxBatchesPerRun", 3);
+        given(taskActivityService.compactBatch(any(ZonedDateTime.class), eq(2))).willReturn(2);
+
+        taskActivityCompactor.compactActivity();
+
+        verify(taskActivityService, times(3)).compactBatch(any(ZonedDateTime.class), eq(2));
+        verify(schedulerLockService, times(1)).release(eq(TaskActivityCompactor.LOCK_NAME));
+    }
+
+    @Test
+    void compactActivity_shouldUseRetentionCutoff() {
+        ReflectionTestUtils.setField(taskActivityCompactor, "retentionDays", 30L);
+        ZonedDateTime before = ZonedDateTime.now().minusDays(30);
+        given(taskActivityService.compactBatch(any(ZonedDateTime.class), eq(2))).willReturn(0);
+
+        taskActivityCompactor.compactActivity();
+
+        ArgumentCaptor<ZonedDateTime> cutoff = ArgumentCaptor.forClass(ZonedDateTime.class);
+        verify(taskActivityService).compactBatch(cutoff.capture(), eq(2));
+        assertThat(cutoff.getValue()).isBetween(before, ZonedDateTime.now().minusDays(30));
+    }
+
+    @Test
+    void compactActivity_whenAnotherNodeHoldsLease_shouldNotCompact() {
+        given(schedulerLockService.tryAcquire(eq(TaskActivityCompactor.LOCK_NAME), any(Duration.class)))
+                .willReturn(false);
+
+        taskActivityCompactor.compactActivity();
+
+        verify(taskActivityService, never()).compactBatch(any(), anyInt());
+    }
+}
@@ -0,0 +1,143 @@
+package com.janithmi.todo_application_backend.scheduler;
+
+import com.janithmi.todo_application_backend.config.CacheConfig;
+import com.janithmi.todo_application_backend.config.GenerationalCache;
+import com.janithmi.todo_application_backend.model.ChangeType;
+import com.janithmi.todo_application_backend.model.TaskChangeLog;
+import com.janithmi.todo_application_backend.repository.TaskChangeLogRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two pollers with their own cache managers act as two backend nodes sharing one H2 database
+@DataJpaTest
+public class TaskChangeLogPollerTest {
+
+    @Autowired
+    private TaskChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private CacheManager nodeACache;
+    private CacheManager nodeBCache;
+    private TaskChangeLogPoller nodeA;
+    private TaskChangeLogPoller nodeB;
+
+    private TaskChangeLog saveChange(Long taskId) {
+        return changeLogRepository.saveAndFlush(TaskChangeLog.builder()
+                .taskId(taskId)
+                .changeType(ChangeType.CREATED)
+                .build());
+    }
+
+    private Cache latestTasks(CacheManager cacheManager) {
+        return cacheManager.getCache(CacheConfig.LATEST_TASKS_CACHE);
+    }
+
+    private void warmCaches() {
+        latestTasks(nodeACache).put(5, List.of());
+        latestTasks(nodeBCache).put(5, List.of());
+    }
+
+    @BeforeEach
+    void setUp() {
+        changeLogRepository.deleteAll();
+        nodeACache = new ConcurrentMapCacheManager(CacheConfig.LATEST_TASKS_CACHE);
+        nodeBCache = new ConcurrentMapCacheManager(CacheConfig.LATEST_TASKS_CACHE);
+        nodeA = new TaskChangeLogPoller(changeLogRepository, nodeACache);
+        nodeB = new TaskChangeLogPoller(changeLogRepository, nodeBCache);
+
+        // First poll only positions each node at the head of the log
+        nodeA.poll();
+        nodeB.poll();
+    }
+
+    @Test
+    void poll_changeFromAnyNode_shouldInvalidateEveryNode() {
+        warmCaches();
+
+        TaskChangeLog change = saveChange(1L);
+        nodeA.poll();
+        nodeB.poll();
+
+        assertThat(latestTasks(nodeACache).get(5)).isNull();
+        assertThat(latestTasks(nodeBCache).get(5)).isNull();
+        assertThat(nodeA.getLastSeenId()).isEqualTo(change.getId());
+        assertThat(nodeB.getLastSeenId()).isEqualTo(change.getId());
+    }
+
+    @Test
+    void poll_noNewChanges_shouldKeepCache() {
+        warmCaches();
+
+        nodeA.poll();
+
+        assertThat(latestTasks(nodeACache).get(5)).isNotNull();
+    }
+
+    @Test
+    void poll_entryCommittedBehindAGap_shouldInvalidateAgain() {
+        saveChange(1L);
+        TaskChangeLog missing = saveChange(2L);
+        saveChange(3L);
+        // Simulates a transaction that took its sequence number but has not committed yet
+        changeLogRepository.deleteById(missing.getId());
+        changeLogRepository.flush();
+
+        nodeA.poll();
+        warmCaches();
+
+        entityManager.createNativeQuery(
+                        "insert into task_change_log (id, task_id, change_type, changed_at) "
+                                + "values (?, ?, ?, current_timestamp)")
+                .setParameter(1, missing.getId())
+                .setParameter(2, 2L)
+                .setParameter(3, ChangeType.COMPLETED.name())
+                .executeUpdate();
+        nodeA.poll();
+
+        assertThat(latestTasks(nodeACache).get(5)).isNull();
+    }
+
+    @Test
+    void poll_readerFinishingAfterTheEviction_shouldNotServeItsStalePage() {
+        GenerationalCache cache = new GenerationalCache(new ConcurrentMapCache(CacheConfig.LATEST_TASKS_CACHE));
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(cache));
+        cacheManager.afterPropertiesSet();
+        TaskChangeLogPoller poller = new TaskChangeLogPoller(changeLogRepository, cacheManager);
+        poller.poll();
+
+        // A reader keys its page before querying, then another node commits and this node evicts
+        String readerKey = cache.generation() + ":5";
+        saveChange(1L);
+        poller.poll();
+        cache.put(readerKey, List.of("stale page"));
+
+        assertThat(cache.get(cache.generation() + ":5")).isNull();
+    }
+
+    @Test
+    void purgeExpiredEntries_shouldRemoveEntriesOutsideRetention() {
+        saveChange(1L);
+        saveChange(2L);
+        ReflectionTestUtils.setField(nodeA, "retentionMinutes", -1L);
+
+        nodeA.purgeExpiredEntries();
+
+        assertThat(changeLogRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,112 @@
+package com.janithmi.todo_application_backend.scheduler;
+
+import com.janithmi.todo_application_backend.service.SchedulerLockService;
+import com.janithmi.todo_application_backend.service.TaskPurgeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class TaskPurgerTest {
+    @Mock
+    private TaskPurgeService taskPurgeService;
+
+    @Mock
+    private SchedulerLockService schedulerLockService;
+
+    @InjectMocks
+    private TaskPurger taskPurger;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(taskPurger, "batchPauseMs", 0L);
+        given(schedulerLockService.tryAcquire(eq(TaskPurger.LOCK_NAME), any(Duration.class))).willReturn(true);
+    }
+
+    private void setWindow(String start, String end) {
+        ReflectionTestUtils.setField(taskPurger, "windowStart", start);
+        ReflectionTestUtils.setField(taskPurger, "windowEnd", end);
+    }
+
+    @Test
+    void isWithinWindow_sameDayWindow() {
+        setWindow("01:00", "05:00");
+
+        assertThat(taskPurger.isWithinWindow(LocalTime.of(1, 0))).isTrue();
+        assertThat(taskPurger.isWithinWindow(LocalTime.of(4, 59))).isTrue();
+        assertThat(taskPurger.isWithinWindow(LocalTime.of(5, 0))).isFalse();
+        assertThat(taskPurger.isWithinWindow(LocalTime.of(12, 0))).isFalse();
+    }
+
+    @Test
+    void isWithinWindow_windowWrappingPastMidnight() {
+        setWindow("22:00", "04:00");
+
+        assertThat(taskPurger.isWithinWindow(LocalTime.of(23, 30))).isTrue();
+        assertThat(taskPurger.isWithinWindow(LocalTime.of(3, 0))).isTrue();
+        assertThat(taskPurger.isWithinWindow(LocalTime.of(4, 0))).isFalse();
+        assertThat(taskPurger.isWithinWindow(LocalTime.of(21, 59))).isFalse();
+    }
+
+    @Test
+    void purgeDeletedTasks_shouldRunBatchesUntilOneComesBackShort() {
+        setWindow("00:00", "00:00"); // equal bounds mean always open
+        ReflectionTestUtils.setField(taskPurger, "batchSize", 2);
+        given(taskPurgeService.purgeBatch(any(ZonedDateTime.class), eq(2))).willReturn(2, 2, 1);
+
+        taskPurger.purgeDeletedTasks();
+
+        verify(taskPurgeService, times(3)).purgeBatch(any(ZonedDateTime.class), eq(2));
+        verify(schedulerLockService, times(1)).release(eq(TaskPurger.LOCK_NAME));
+    }
+
+    @Test
+    void purgeDeletedTasks_shouldStopAtMaxBatchesPerRun() {
+        setWindow("00:00", "00:00");
+        ReflectionTestUtils.setField(taskPurger, "batchSize", 2);
+        ReflectionTestUtils.setField(taskPurger, "maxBatchesPerRun", 3);
+        given(taskPurgeService.purgeBatch(any(ZonedDateTime.class), eq(2))).willReturn(2);
+
+        taskPurger.purgeDeletedTasks();
+
+        verify(taskPurgeService, times(3)).purgeBatch(any(ZonedDateTime.class), eq(2));
+    }
+
+    @Test
+    void purgeDeletedTasks_whenAnotherNodeHoldsLease_shouldNotPurge() {
+        setWindow("00:00", "00:00");
+        given(schedulerLockService.tryAcquire(eq(TaskPurger.LOCK_NAME), any(Duration.class))).willReturn(false);
+
+        taskPurger.purgeDeletedTasks();
+
+        verify(taskPurgeService, never()).purgeBatch(any(), anyInt());
+        verify(schedulerLockService, never()).release(any());
+    }
+
+    @Test
+    void purgeDeletedTasks_outsideWindow_shouldNotPurge() {
+        LocalTime now = LocalTime.now();
+        setWindow(now.plusHours(2).toString(), now.plusHours(3).toString());
+
+        taskPurger.purgeDeletedTasks();
+
+        verify(taskPurgeService, times(0)).purgeBatch(any(), anyInt());
+        verify(schedulerLockService, never()).tryAcquire(any(), any());
+    }
+}
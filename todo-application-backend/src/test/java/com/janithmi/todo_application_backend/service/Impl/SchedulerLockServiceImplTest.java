@@ -0,0 +1,73 @@
+package com.janithmi.todo_application_backend.service.Impl;
+
+import com.janithmi.todo_application_backend.model.SchedulerLock;
+import com.janithmi.todo_application_backend.repository.SchedulerLockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two service instances stand in for two nodes; each call commits on its own like in production
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SchedulerLockServiceImplTest {
+
+    private static final String JOB = "task-archiver";
+    private static final Duration LEASE = Duration.ofMinutes(30);
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    private SchedulerLockServiceImpl nodeA;
+    private SchedulerLockServiceImpl nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new SchedulerLockServiceImpl(schedulerLockRepository);
+        nodeB = new SchedulerLockServiceImpl(schedulerLockRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        schedulerLockRepository.deleteAll();
+    }
+
+    @Test
+    void tryAcquire_shouldGrantLeaseToOneNodeAtATime() {
+        assertThat(nodeA.tryAcquire(JOB, LEASE)).isTrue();
+        assertThat(nodeB.tryAcquire(JOB, LEASE)).isFalse();
+        assertThat(nodeA.tryAcquire(JOB, LEASE)).isFalse();
+    }
+
+    @Test
+    void release_shouldLetAnotherNodeAcquire() {
+        nodeA.tryAcquire(JOB, LEASE);
+
+        nodeB.release(JOB); // not the holder, no effect
+        assertThat(nodeB.tryAcquire(JOB, LEASE)).isFalse();
+
+        nodeA.release(JOB);
+        assertThat(nodeB.tryAcquire(JOB, LEASE)).isTrue();
+    }
+
+    @Test
+    void tryAcquire_shouldTakeOverExpiredLease() {
+        schedulerLockRepository.save(SchedulerLock.builder()
+                .name(JOB)
+                .lockedUntil(ZonedDateTime.now().minusMinutes(1))
+                .lockedBy("crashed-node")
+                .build());
+
+        assertThat(nodeB.tryAcquire(JOB, LEASE)).isTrue();
+        assertThat(schedulerLockRepository.findById(JOB).orElseThrow().getLockedUntil())
+                .isAfter(ZonedDateTime.now());
+    }
+}
@@ -0,0 +1,46 @@
+package com.janithmi.todo_application_backend.service.Impl;
+
+import com.janithmi.todo_application_backend.model.Tag;
+import com.janithmi.todo_application_backend.repository.TagRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(TagServiceImpl.class)
+public class TagServiceImplTest {
+
+    @Autowired
+    private TagServiceImpl tagService;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void findOrCreateTag_whenMissing_shouldInsertIt() {
+        Tag tag = tagService.findOrCreateTag("home");
+
+        assertThat(tag.getId()).isNotNull();
+        assertThat(tag.getName()).isEqualTo("home");
+        assertThat(tagRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void findOrCreateTag_whenNameTaken_shouldReturnExistingRowAndKeepCallerTransactionCommittable() {
+        Tag existing = tagRepository.saveAndFlush(Tag.builder().name("urgent").build());
+
+        Tag tag = tagService.findOrCreateTag("urgent");
+
+        assertThat(tag.getId()).isEqualTo(existing.getId());
+        assertThat(tagRepository.count()).isEqualTo(1);
+        assertThat(transactionManager.getTransaction(new DefaultTransactionDefinition()).isRollbackOnly()).isFalse();
+    }
+}
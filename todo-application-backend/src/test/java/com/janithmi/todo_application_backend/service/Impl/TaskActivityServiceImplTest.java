@@ -0,0 +1,158 @@
+package com.janithmi.todo_application_backend.service.Impl;
+
+import com.janithmi.todo_application_backend.dto.TaskActivityResponse;
+import com.janithmi.todo_application_backend.exception.InvalidRequestException;
+import com.janithmi.todo_application_backend.mapper.TaskMapper;
+import com.janithmi.todo_application_backend.model.ChangeType;
+import com.janithmi.todo_application_backend.model.TaskActivity;
+import com.janithmi.todo_application_backend.repository.TaskActivityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class TaskActivityServiceImplTest {
+    @Mock
+    private TaskActivityRepository taskActivityRepository;
+
+    // The real mapper carries the sequence and occurredAt the gap check reads
+    @Spy
+    private TaskMapper taskMapper = new TaskMapper();
+
+    @InjectMocks
+    private TaskActivityServiceImpl taskActivityService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(taskActivityService, "settleMs", 10_000L);
+    }
+
+    private TaskActivity activity(Long id, ZonedDateTime occurredAt) {
+        return TaskActivity.builder()
+                .id(id)
+                .taskId(id * 10)
+                .activityType(ChangeType.CREATED)
+                .taskTitle("Task " + id)
+                .occurredAt(occurredAt)
+                .build();
+    }
+
+    @Test
+    void getActivityFeed_withoutCursor_shouldStartFromNewest() {
+        ZonedDateTime now = ZonedDateTime.now();
+        given(taskActivityRepository.findActivitiesBefore(eq(Long.MAX_VALUE), eq(PageRequest.of(0, 2))))
+                .willReturn(List.of(activity(9L, now), activity(8L, now)));
+
+        List<TaskActivityResponse> page = taskActivityService.getActivityFeed(null, null, 2);
+
+        assertThat(page).extracting(TaskActivityResponse::getSequence).containsExactly(9L, 8L);
+        assertThat(page.get(0).getTitle()).isEqualTo("Task 9");
+    }
+
+    @Test
+    void getActivityFeed_beforeSequence_shouldPageBackwardFromCursor() {
+        given(taskActivityRepository.findActivitiesBefore(eq(8L), eq(PageRequest.of(0, 2))))
+                .willReturn(List.of(activity(7L, ZonedDateTime.now()), activity(6L, ZonedDateTime.now())));
+
+        List<TaskActivityResponse> page = taskActivityService.getActivityFeed(8L, null, 2);
+
+        assertThat(page).extracting(TaskActivityResponse::getSequence).containsExactly(7L, 6L);
+        verify(taskActivityRepository, never()).findActivitiesAfter(anyLong(), any());
+    }
+
+    @Test
+    void getActivityFeed_afterSequence_shouldReturnContiguousRowsOldestFirst() {
+        ZonedDateTime now = ZonedDateTime.now();
+        given(taskActivityRepository.findActivitiesAfter(eq(5L), eq(PageRequest.of(0, 3))))
+                .willReturn(List.of(activity(6L, now), activity(7L, now), activity(8L, now)));
+
+        List<TaskActivityResponse> page = taskActivityService.getActivityFeed(null, 5L, 3);
+
+        assertThat(page).extracting(TaskActivityResponse::getSequence).containsExactly(6L, 7L, 8L);
+        verify(taskActivityRepository, never()).findActivitiesBefore(anyLong(), any());
+    }
+
+    @Test
+    void getActivityFeed_afterSequence_shouldHoldBackRowsPastAFreshGap() {
+        // 7 may still be uncommitted, so a reader advancing to 8 could skip it for good
+        ZonedDateTime now = ZonedDateTime.now();
+        given(taskActivityRepository.findActivitiesAfter(eq(5L), any()))
+                .willReturn(List.of(activity(6L, now), activity(8L, now), activity(9L, now)));
+
+        List<TaskActivityResponse> page = taskActivityService.getActivityFeed(null, 5L, 20);
+
+        assertThat(page).extracting(TaskActivityResponse::getSequence).containsExactly(6L);
+    }
+
+    @Test
+    void getActivityFeed_afterSequence_shouldHoldBackWhenFirstRowIsPastAFreshGap() {
+        given(taskActivityRepository.findActivitiesAfter(eq(5L), any()))
+                .willReturn(List.of(activity(7L, ZonedDateTime.now())));
+
+        assertThat(taskActivityService.getActivityFeed(null, 5L, 20)).isEmpty();
+    }
+
+    @Test
+    void getActivityFeed_afterSequence_shouldSkipGapOnceSettled() {
+        // Rolled-back inserts and compacted rows leave gaps that never fill
+        ZonedDateTime settled = ZonedDateTime.now().minusMinutes(1);
+        ZonedDateTime now = ZonedDateTime.now();
+        given(taskActivityRepository.findActivitiesAfter(eq(5L), any()))
+                .willReturn(List.of(activity(6L, settled), activity(9L, settled), activity(10L, now),
+                        activity(12L, now)));
+
+        List<TaskActivityResponse> page = taskActivityService.getActivityFeed(null, 5L, 20);
+
+        assertThat(page).extracting(TaskActivityResponse::getSequence).containsExactly(6L, 9L, 10L);
+    }
+
+    @Test
+    void getActivityFeed_withBothCursors_shouldRejectRequest() {
+        assertThatThrownBy(() -> taskActivityService.getActivityFeed(8L, 5L, 20))
+                .isInstanceOf(InvalidRequestException.class);
+
+        verifyNoInteractions(taskActivityRepository);
+    }
+
+    @Test
+    void compactBatch_shouldDeleteIdRangeOfCompactableActivities() {
+        ZonedDateTime cutoff = ZonedDateTime.now().minusDays(90);
+        given(taskActivityRepository.findCompactableIds(eq(cutoff), eq(PageRequest.of(0, 3))))
+                .willReturn(List.of(2L, 5L, 11L));
+        given(taskActivityRepository.deleteCompactableActivities(2L, 11L, cutoff)).willReturn(3);
+
+        int compacted = taskActivityService.compactBatch(cutoff, 3);
+
+        assertThat(compacted).isEqualTo(3);
+        verify(taskActivityRepository, times(1)).deleteCompactableActivities(2L, 11L, cutoff);
+    }
+
+    @Test
+    void compactBatch_whenNothingToCompact_shouldNotDelete() {
+        ZonedDateTime cutoff = ZonedDateTime.now().minusDays(90);
+        given(taskActivityRepository.findCompactableIds(eq(cutoff), any())).willReturn(Collections.emptyList());
+
+        assertThat(taskActivityService.compactBatch(cutoff, 100)).isZero();
+        verify(taskActivityRepository, never()).deleteCompactableActivities(anyLong(), anyLong(), any());
+    }
+}
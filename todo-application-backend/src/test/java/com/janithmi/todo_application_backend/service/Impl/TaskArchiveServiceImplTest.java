@@ -0,0 +1,89 @@
+package com.janithmi.todo_application_backend.service.Impl;
+
+import com.janithmi.todo_application_backend.dto.ArchivedTaskResponse;
+import com.janithmi.todo_application_backend.mapper.TaskMapper;
+import com.janithmi.todo_application_backend.model.TaskArchive;
+import com.janithmi.todo_application_backend.repository.TaskArchiveRepository;
+import com.janithmi.todo_application_backend.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class TaskArchiveServiceImplTest {
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @InjectMocks
+    private TaskArchiveServiceImpl taskArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void archiveBatch_shouldMoveIdRangeOfArchivableTasks() {
+        ZonedDateTime cutoff = ZonedDateTime.now().minusDays(30);
+        given(taskRepository.findArchivableTaskIds(eq(cutoff), eq(PageRequest.of(0, 3))))
+                .willReturn(List.of(4L, 9L, 12L));
+        given(taskArchiveRepository.copyTasks(eq(4L), eq(12L), eq(cutoff), any(ZonedDateTime.class)))
+                .willReturn(3);
+
+        int archived = taskArchiveService.archiveBatch(cutoff, 3);
+
+        assertThat(archived).isEqualTo(3);
+        verify(taskArchiveRepository, times(1)).copyTaskTags(4L, 12L);
+        verify(taskArchiveRepository, times(1)).deleteArchivedTaskTags(4L, 12L);
+        verify(taskArchiveRepository, times(1)).deleteArchivedTasks(4L, 12L);
+    }
+
+    @Test
+    void archiveBatch_whenNothingToArchive_shouldNotTouchArchive() {
+        ZonedDateTime cutoff = ZonedDateTime.now().minusDays(30);
+        given(taskRepository.findArchivableTaskIds(eq(cutoff), any())).willReturn(Collections.emptyList());
+
+        int archived = taskArchiveService.archiveBatch(cutoff, 100);
+
+        assertThat(archived).isZero();
+        verify(taskArchiveRepository, never()).copyTasks(anyLong(), anyLong(), any(), any());
+        verify(taskArchiveRepository, never()).deleteArchivedTasks(anyLong(), anyLong());
+    }
+
+    @Test
+    void getArchivedTasks_withoutCursor_shouldStartFromNewest() {
+        TaskArchive archivedTask = TaskArchive.builder().id(8L).title("Old Chore").build();
+        ArchivedTaskResponse response = ArchivedTaskResponse.builder().id(8L).title("Old Chore").build();
+
+        given(taskArchiveRepository.findArchivedBefore(eq(Long.MAX_VALUE), eq(PageRequest.of(0, 20))))
+                .willReturn(List.of(archivedTask));
+        given(taskMapper.mapToArchivedTaskResponse(eq(archivedTask))).willReturn(response);
+
+        List<ArchivedTaskResponse> result = taskArchiveService.getArchivedTasks(null, 20);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getTags()).isEmpty();
+        verify(taskArchiveRepository, times(1)).findTagNamesByTaskIds(eq(List.of(8L)));
+    }
+}
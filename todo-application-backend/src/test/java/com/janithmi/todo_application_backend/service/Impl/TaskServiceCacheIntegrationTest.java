@@ -0,0 +1,66 @@
+package com.janithmi.todo_application_backend.service.Impl;
+
+import com.janithmi.todo_application_backend.config.GenerationalCache;
+import com.janithmi.todo_application_backend.dto.TaskRequest;
+import com.janithmi.todo_application_backend.repository.TaskRepository;
+import com.janithmi.todo_application_backend.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// The latest-tasks cache must not keep a page that was read before a concurrent eviction
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+public class TaskServiceCacheIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private GenerationalCache latestTasksCache;
+
+    @MockitoSpyBean
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskService.createTask(new TaskRequest("Groceries", "Buy vegetables and fruits"));
+        latestTasksCache.clear();
+        clearInvocations(taskRepository);
+    }
+
+    @Test
+    void getLatestTasks_shouldServeRepeatedReadsFromCache() {
+        taskService.getLatestTasksActivities(5);
+        taskService.getLatestTasksActivities(5);
+
+        verify(taskRepository, times(1)).findLatestActiveTasks(any(Pageable.class));
+    }
+
+    @Test
+    void getLatestTasks_evictedWhileQuerying_shouldNotCacheThePage() {
+        // The change-log poller clears the cache after the query but before the page is stored
+        willAnswer(invocation -> {
+            latestTasksCache.clear();
+            return List.of();
+        }).willReturn(List.of()).given(taskRepository).findLatestActiveTasks(any(Pageable.class));
+
+        taskService.getLatestTasksActivities(5);
+        taskService.getLatestTasksActivities(5);
+        taskService.getLatestTasksActivities(5);
+
+        verify(taskRepository, times(2)).findLatestActiveTasks(any(Pageable.class));
+    }
+}
@@ -2,29 +2,43 @@ package com.janithmi.todo_application_backend.service.Impl;
 
 import com.janithmi.todo_application_backend.dto.TaskRequest;
 import com.janithmi.todo_application_backend.dto.TaskResponse;
+import com.janithmi.todo_application_backend.exception.InvalidRequestException;
 import com.janithmi.todo_application_backend.exception.TaskNotFoundException;
 import com.janithmi.todo_application_backend.mapper.TaskMapper;
+import com.janithmi.todo_application_backend.model.ChangeType;
+import com.janithmi.todo_application_backend.model.Tag;
 import com.janithmi.todo_application_backend.model.Task;
+import com.janithmi.todo_application_backend.model.TaskActivity;
+import com.janithmi.todo_application_backend.model.TaskChangeLog;
+import com.janithmi.todo_application_backend.repository.TagRepository;
+import com.janithmi.todo_application_backend.repository.TaskActivityRepository;
+import com.janithmi.todo_application_backend.repository.TaskChangeLogRepository;
 import com.janithmi.todo_application_backend.repository.TaskRepository;
+import com.janithmi.todo_application_backend.repository.TaskTagName;
+import com.janithmi.todo_application_backend.service.TagService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.ZonedDateTime;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -34,6 +48,18 @@ public class TaskServiceImplTest {
 
     @Mock
     private TaskMapper taskMapper;
+
+    @Mock
+    private TaskChangeLogRepository taskChangeLogRepository;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private TaskActivityRepository taskActivityRepository;
+
+    @Mock
+    private TagService tagService;
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -58,6 +84,20 @@ public class TaskServiceImplTest {
                 .build();
     }
 
+    private TaskTagName createTagRow(Long taskId, String tagName) {
+        return new TaskTagName() {
+            @Override
+            public Long getTaskId() {
+                return taskId;
+            }
+
+            @Override
+            public String getTagName() {
+                return tagName;
+            }
+        };
+    }
+
     //successful task creation
     @Test
     void createTaskSuccessfully() {
@@ -78,6 +118,71 @@ public class TaskServiceImplTest {
         verify(taskMapper, times(1)).mapToTask(eq(mockRequest));
         verify(taskRepository, times(1)).save(eq(unsavedTask));
         verify(taskMapper, times(1)).mapToTaskResponse(eq(savedTask));
+
+        ArgumentCaptor<TaskChangeLog> change = ArgumentCaptor.forClass(TaskChangeLog.class);
+        verify(taskChangeLogRepository, times(1)).save(change.capture());
+        assertThat(change.getValue().getTaskId()).isEqualTo(1L);
+        assertThat(change.getValue().getChangeType()).isEqualTo(ChangeType.CREATED);
+
+        ArgumentCaptor<TaskActivity> activity = ArgumentCaptor.forClass(TaskActivity.class);
+        verify(taskActivityRepository, times(1)).save(activity.capture());
+        assertThat(activity.getValue().getTaskId()).isEqualTo(1L);
+        assertThat(activity.getValue().getActivityType()).isEqualTo(ChangeType.CREATED);
+        assertThat(activity.getValue().getTaskTitle()).isEqualTo("Task Title");
+    }
+
+    @Test
+    void createTask_withTags_shouldReuseExistingAndCreateMissingTags() {
+        TaskRequest mockRequest = new TaskRequest("Groceries", "Buy fruits", List.of(" Home ", "urgent", "home"));
+        Task unsavedTask = createMockTask(null);
+        Task savedTask = createMockTask(1L);
+        Tag home = Tag.builder().id(7L).name("home").build();
+        Tag urgent = Tag.builder().id(8L).name("urgent").build();
+
+        given(taskMapper.mapToTask(eq(mockRequest))).willReturn(unsavedTask);
+        given(tagRepository.findByNameIn(eq(Set.of("home", "urgent")))).willReturn(List.of(home));
+        given(tagService.findOrCreateTag(eq("urgent"))).willReturn(urgent);
+        given(taskRepository.save(eq(unsavedTask))).willReturn(savedTask);
+        given(taskMapper.mapToTaskResponse(eq(savedTask))).willReturn(createMockResponse(1L));
+
+        TaskResponse actualResponse = taskService.createTask(mockRequest);
+
+        ArgumentCaptor<Collection<Long>> tagIds = ArgumentCaptor.forClass(Collection.class);
+        verify(taskRepository, times(1)).insertTaskTags(eq(1L), tagIds.capture());
+        assertThat(tagIds.getValue()).containsExactlyInAnyOrder(7L, 8L);
+        assertThat(actualResponse.getTags()).containsExactly("home", "urgent");
+        verify(tagService, times(1)).findOrCreateTag(eq("urgent"));
+    }
+
+    @Test
+    void createTask_withTooLongTag_shouldRejectBeforeWriting() {
+        TaskRequest mockRequest = new TaskRequest("Groceries", "Buy fruits", List.of("x".repeat(Tag.MAX_NAME_LENGTH + 1)));
+        given(taskMapper.mapToTask(eq(mockRequest))).willReturn(createMockTask(null));
+
+        assertThrows(InvalidRequestException.class, () -> taskService.createTask(mockRequest));
+
+        verify(tagService, never()).findOrCreateTag(any());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void getLatestTasksActivitiesByTag_shouldNormalizeTagAndAttachTags() {
+        int limit = 3;
+        Task task1 = createMockTask(1L);
+        Pageable expectedPageable = PageRequest.of(0, limit);
+
+        given(taskRepository.findLatestActiveTasksByTag(eq("home"), eq(expectedPageable))).willReturn(List.of(task1));
+        given(taskRepository.findTagNamesByTaskIds(eq(List.of(1L))))
+                .willReturn(List.of(createTagRow(1L, "home"), createTagRow(1L, "urgent")));
+        given(taskMapper.mapToTaskResponse(eq(task1))).willReturn(createMockResponse(1L));
+
+        List<TaskResponse> actualResponses = taskService.getLatestTasksActivitiesByTag(limit, " Home");
+
+        assertThat(actualResponses).hasSize(1);
+        assertThat(actualResponses.get(0).getTags()).containsExactly("home", "urgent");
+
+        verify(taskRepository, times(1)).findLatestActiveTasksByTag(eq("home"), eq(expectedPageable));
+        verify(taskRepository, times(1)).findTagNamesByTaskIds(eq(List.of(1L)));
     }
 
     @Test
@@ -103,6 +208,7 @@ public class TaskServiceImplTest {
         assertThat(actualResponses.get(1).getId()).isEqualTo(2L);
 
         verify(taskRepository, times(1)).findLatestActiveTasks(eq(expectedPageable));
+        verify(taskRepository, times(1)).findTagNamesByTaskIds(eq(List.of(1L, 2L)));
         verify(taskMapper, times(2)).mapToTaskResponse(any(Task.class));
     }
 
@@ -127,30 +233,149 @@ public class TaskServiceImplTest {
         Long taskId = 1L;
         Task task = createMockTask(taskId);
 
-        given(taskRepository.findById(taskId)).willReturn(Optional.of(task));
+        given(taskRepository.findLiveTasksForUpdate(eq(List.of(taskId)))).willReturn(List.of(task));
         given(taskRepository.save(task)).willReturn(task);
 
         taskService.completeTask(taskId);
 
         assertThat(task.isCompleted()).isTrue();
+        assertThat(task.getCompletedAt()).isNotNull();
 
-        verify(taskRepository, times(1)).findById(taskId);
+        verify(taskRepository, times(1)).findLiveTasksForUpdate(eq(List.of(taskId)));
         verify(taskRepository, times(1)).save(task);
+        verify(taskRepository, times(1)).completeTaskTags(eq(taskId));
+
+        ArgumentCaptor<TaskChangeLog> change = ArgumentCaptor.forClass(TaskChangeLog.class);
+        verify(taskChangeLogRepository, times(1)).save(change.capture());
+        assertThat(change.getValue().getTaskId()).isEqualTo(taskId);
+        assertThat(change.getValue().getChangeType()).isEqualTo(ChangeType.COMPLETED);
+
+        ArgumentCaptor<TaskActivity> activity = ArgumentCaptor.forClass(TaskActivity.class);
+        verify(taskActivityRepository, times(1)).save(activity.capture());
+        assertThat(activity.getValue().getActivityType()).isEqualTo(ChangeType.COMPLETED);
     }
 
     @Test
     void completeTask_whenTaskNotFound_shouldThrowException() {
         Long taskId = 1L;
 
-        given(taskRepository.findById(taskId)).willReturn(Optional.empty());
+        given(taskRepository.findLiveTasksForUpdate(eq(List.of(taskId)))).willReturn(List.of());
 
         assertThrows(TaskNotFoundException.class, () -> taskService.completeTask(taskId));
 
-        verify(taskRepository, times(1)).findById(taskId);
+        verify(taskRepository, times(1)).findLiveTasksForUpdate(eq(List.of(taskId)));
         verify(taskRepository, times(0)).save(any());
+        verify(taskChangeLogRepository, times(0)).save(any());
+        verify(taskActivityRepository, times(0)).save(any());
     }
 
+    @Test
+    void completeTask_whenTaskSoftDeleted_shouldThrowException() {
+        Long taskId = 1L;
 
+        // The locking read only returns live rows
+        given(taskRepository.findLiveTasksForUpdate(eq(List.of(taskId)))).willReturn(List.of());
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.completeTask(taskId));
+
+        verify(taskRepository, times(0)).save(any());
+        verify(taskChangeLogRepository, times(0)).save(any());
+    }
+
+    @Test
+    void completeTask_whenAlreadyCompleted_shouldKeepCompletedAtAndRecordNoEvent() {
+        Long taskId = 1L;
+        Task task = createMockTask(taskId);
+        ZonedDateTime firstCompletedAt = ZonedDateTime.now().minusDays(3);
+        task.setCompleted(true);
+        task.setCompletedAt(firstCompletedAt);
+
+        given(taskRepository.findLiveTasksForUpdate(eq(List.of(taskId)))).willReturn(List.of(task));
+
+        taskService.completeTask(taskId);
+
+        assertThat(task.isCompleted()).isTrue();
+        assertThat(task.getCompletedAt()).isEqualTo(firstCompletedAt);
+        verify(taskRepository, never()).save(any());
+        verify(taskRepository, never()).completeTaskTags(any());
+        verify(taskChangeLogRepository, never()).save(any());
+        verify(taskActivityRepository, never()).save(any());
+    }
+
+    @Test
+    void deleteTask_shouldTombstoneTaskAndRecordChange() {
+        Long taskId = 1L;
+
+        given(taskRepository.findLiveTasksForUpdate(eq(List.of(taskId)))).willReturn(List.of(createMockTask(taskId)));
+        given(taskRepository.softDeleteByIds(eq(List.of(taskId)), any(ZonedDateTime.class))).willReturn(1);
+
+        taskService.deleteTask(taskId);
+
+        ArgumentCaptor<ZonedDateTime> deletedAt = ArgumentCaptor.forClass(ZonedDateTime.class);
+        verify(taskRepository, times(1)).softDeleteByIds(eq(List.of(taskId)), deletedAt.capture());
+        verify(taskRepository, times(1)).softDeleteTaskTags(eq(List.of(taskId)), eq(deletedAt.getValue()));
+        verify(taskRepository, times(0)).delete(any());
+
+        ArgumentCaptor<TaskChangeLog> change = ArgumentCaptor.forClass(TaskChangeLog.class);
+        verify(taskChangeLogRepository, times(1)).save(change.capture());
+        assertThat(change.getValue().getTaskId()).isEqualTo(taskId);
+        assertThat(change.getValue().getChangeType()).isEqualTo(ChangeType.DELETED);
+    }
+
+    @Test
+    void deleteTask_whenTaskNotFound_shouldThrowException() {
+        Long taskId = 1L;
+
+        given(taskRepository.findLiveTasksForUpdate(eq(List.of(taskId)))).willReturn(List.of());
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.deleteTask(taskId));
+
+        verify(taskRepository, times(0)).softDeleteByIds(any(), any());
+        verify(taskChangeLogRepository, times(0)).save(any());
+    }
+
+    @Test
+    void deleteTasks_shouldTombstoneDistinctIdsInOneStatement() {
+        given(taskRepository.findLiveTasksForUpdate(eq(Set.of(1L, 2L))))
+                .willReturn(List.of(createMockTask(1L), createMockTask(2L)));
+        given(taskRepository.softDeleteByIds(eq(List.of(1L, 2L)), any(ZonedDateTime.class))).willReturn(2);
+
+        int deleted = taskService.deleteTasks(List.of(1L, 2L, 1L));
+
+        assertThat(deleted).isEqualTo(2);
+        verify(taskRepository, times(1)).softDeleteByIds(eq(List.of(1L, 2L)), any(ZonedDateTime.class));
+        verify(taskChangeLogRepository, times(2)).save(any(TaskChangeLog.class));
+    }
+
+    @Test
+    void deleteTasks_shouldRecordChangesOnlyForTasksThatWereStillLive() {
+        given(taskRepository.findLiveTasksForUpdate(eq(Set.of(1L, 2L, 3L)))).willReturn(List.of(createMockTask(2L)));
+        given(taskRepository.softDeleteByIds(eq(List.of(2L)), any(ZonedDateTime.class))).willReturn(1);
+
+        int deleted = taskService.deleteTasks(List.of(1L, 2L, 3L));
+
+        assertThat(deleted).isEqualTo(1);
+        ArgumentCaptor<TaskChangeLog> change = ArgumentCaptor.forClass(TaskChangeLog.class);
+        verify(taskChangeLogRepository, times(1)).save(change.capture());
+        assertThat(change.getValue().getTaskId()).isEqualTo(2L);
+    }
+
+    @Test
+    void deleteTasks_withTooManyIds_shouldRejectBeforeTouchingRepository() {
+        ReflectionTestUtils.setField(taskService, "maxDeleteIds", 2);
+
+        assertThrows(InvalidRequestException.class, () -> taskService.deleteTasks(List.of(1L, 2L, 3L)));
+
+        verify(taskRepository, never()).findLiveTasksForUpdate(any());
+    }
+
+    @Test
+    void deleteTasks_withNoIds_shouldNotTouchRepository() {
+        assertThat(taskService.deleteTasks(List.of())).isZero();
+
+        verify(taskRepository, times(0)).findLiveTasksForUpdate(any());
+        verify(taskRepository, times(0)).softDeleteByIds(any(), any());
+    }
 }
 
 
@@ -0,0 +1,56 @@
+-- Reactive nodes do not manage the schema; in production the servlet nodes create it
+-- through Hibernate. This mirrors the Hibernate-generated tables for the reactive tests.
+create table if not exists task (
+    id bigint generated by default as identity primary key,
+    title varchar(255) not null,
+    description text,
+    is_completed boolean not null,
+    created_at timestamp(6) with time zone not null,
+    completed_at timestamp(6) with time zone,
+    deleted_at timestamp(6) with time zone
+);
+create table if not exists tag (
+    id bigint generated by default as identity primary key,
+    name varchar(64) not null unique
+);
+create table if not exists task_tag (
+    task_id bigint not null references task,
+    tag_id bigint not null references tag,
+    is_completed boolean not null,
+    deleted_at timestamp(6) with time zone,
+    created_at timestamp(6) with time zone not null,
+    primary key (tag_id, task_id)
+);
+create index if not exists idx_task_tag_feed on task_tag (tag_id, is_completed, deleted_at, created_at);
+create index if not exists idx_task_tag_task_id on task_tag (task_id);
+create table if not exists task_change_log (
+    id bigint generated by default as identity primary key,
+    task_id bigint not null,
+    change_type varchar(16) not null,
+    changed_at timestamp(6) with time zone not null
+);
+create table if not exists task_archive (
+    id bigint not null primary key,
+    title varchar(255) not null,
+    description text,
+    created_at timestamp(6) with time zone not null,
+    completed_at timestamp(6) with time zone,
+    archived_at timestamp(6) with time zone not null
+);
+create table if not exists task_archive_tag (
+    task_id bigint not null references task_archive,
+    tag_id bigint not null references tag,
+    primary key (tag_id, task_id)
+);
+create table if not exists task_activity (
+    id bigint generated by default as identity primary key,
+    task_id bigint not null,
+    activity_type varchar(16) not null,
+    task_title varchar(255),
+    occurred_at timestamp(6) with time zone not null
+);
+create table if not exists scheduler_lock (
+    name varchar(64) not null primary key,
+    locked_until timestamp(6) with time zone not null,
+    locked_by varchar(255) not null
+);